@@ -0,0 +1,101 @@
+// src/loadtest/java/me/help/minecraft_store/loadtest/DelayedProfileStore.java
+package me.help.minecraft_store.loadtest;
+
+import me.help.minecraft_store.data.NodeStatsData;
+import me.help.minecraft_store.data.PlayerProfileData;
+import me.help.minecraft_store.data.ProfileCursor;
+import me.help.minecraft_store.data.ProfilePage;
+import me.help.minecraft_store.services.ProfileStore;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Adds a network round-trip to every call of another store, to approximate a remote database.
+ * With jitter, calls can complete in a different order than they were made, like requests from different servers.
+ */
+final class DelayedProfileStore implements ProfileStore {
+
+    private final ProfileStore delegate;
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder saves = new LongAdder();
+
+    DelayedProfileStore(ProfileStore delegate, long latencyMillis) {
+        this(delegate, latencyMillis, 0);
+    }
+
+    DelayedProfileStore(ProfileStore delegate, long latencyMillis, long jitterMillis) {
+        this.delegate = delegate;
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+    }
+
+    private Executor delay() {
+        long jitter = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+        return CompletableFuture.delayedExecutor(latencyMillis + jitter, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CompletableFuture<Void> onReady() {
+        return delegate.onReady();
+    }
+
+    @Override
+    public CompletableFuture<Void> warmup() {
+        return CompletableFuture.runAsync(() -> { }, delay()).thenCompose(v -> delegate.warmup());
+    }
+
+    @Override
+    public CompletableFuture<PlayerProfileData> load(UUID uuid) {
+        loads.increment();
+        return CompletableFuture.runAsync(() -> { }, delay()).thenCompose(v -> delegate.load(uuid));
+    }
+
+    @Override
+    public CompletableFuture<Void> save(PlayerProfileData profile) {
+        saves.increment();
+        return CompletableFuture.runAsync(() -> { }, delay()).thenCompose(v -> delegate.save(profile));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveIf(PlayerProfileData profile, Predicate<PlayerProfileData> condition) {
+        saves.increment();
+        return CompletableFuture.runAsync(() -> { }, delay()).thenCompose(v -> delegate.saveIf(profile, condition));
+    }
+
+    @Override
+    public CompletableFuture<ProfilePage> loadPage(ProfileCursor after, long since, int limit) {
+        return CompletableFuture.runAsync(() -> { }, delay()).thenCompose(v -> delegate.loadPage(after, since, limit));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveNodeStats(NodeStatsData stats) {
+        return CompletableFuture.runAsync(() -> { }, delay()).thenCompose(v -> delegate.saveNodeStats(stats));
+    }
+
+    @Override
+    public CompletableFuture<List<NodeStatsData>> loadNodeStats() {
+        return CompletableFuture.runAsync(() -> { }, delay()).thenCompose(v -> delegate.loadNodeStats());
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    long getLoads() {
+        return loads.sum();
+    }
+
+    long getSaves() {
+        return saves.sum();
+    }
+}
@@ -0,0 +1,110 @@
+// src/loadtest/java/me/help/minecraft_store/loadtest/LatencyRecorder.java
+package me.help.minecraft_store.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects response latencies and status classes for one route.
+ * Latency is measured from the intended send time, so a stalled server cannot hide queueing delay.
+ */
+final class LatencyRecorder {
+
+    private final String route;
+    private long[] samples = new long[4096];
+    private int count;
+    private long success;
+    private long notModified;
+    private long clientErrors;
+    private long serverErrors;
+    private long failures;
+
+    LatencyRecorder(String route) {
+        this.route = route;
+    }
+
+    synchronized void record(long latencyNanos, int status) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = latencyNanos;
+        if (status == 304) {
+            notModified++;
+        } else if (status >= 500) {
+            serverErrors++;
+        } else if (status >= 400) {
+            clientErrors++;
+        } else if (status > 0) {
+            success++;
+        } else {
+            failures++;
+        }
+    }
+
+    synchronized void merge(LatencyRecorder other) {
+        synchronized (other) {
+            for (int i = 0; i < other.count; i++) {
+                if (count == samples.length) {
+                    samples = Arrays.copyOf(samples, samples.length * 2);
+                }
+                samples[count++] = other.samples[i];
+            }
+            success += other.success;
+            notModified += other.notModified;
+            clientErrors += other.clientErrors;
+            serverErrors += other.serverErrors;
+            failures += other.failures;
+        }
+    }
+
+    synchronized long getCount() {
+        return count;
+    }
+
+    synchronized long getServerErrorsAndFailures() {
+        return serverErrors + failures;
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. 0.99 for p99.
+     * @return latency in milliseconds, or 0 if nothing was recorded.
+     */
+    synchronized double percentileMillis(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.min(count - 1, Math.ceil(quantile * count) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    synchronized Map<String, Object> summary(double measuredSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("route", route);
+        summary.put("count", count);
+        summary.put("throughput", count / measuredSeconds);
+        summary.put("success", success);
+        summary.put("notModified", notModified);
+        summary.put("clientErrors", clientErrors);
+        summary.put("serverErrors", serverErrors);
+        summary.put("failures", failures);
+        summary.put("p50Millis", percentileMillis(0.50));
+        summary.put("p99Millis", percentileMillis(0.99));
+        summary.put("p999Millis", percentileMillis(0.999));
+        summary.put("maxMillis", percentileMillis(1.0));
+        return summary;
+    }
+
+    synchronized String formatRow(double measuredSeconds) {
+        return String.format("%-16s %8d %9.1f %7d %6d %6d %6d %6d %8.2f %8.2f %8.2f %8.2f",
+                route, count, count / measuredSeconds, success, notModified, clientErrors, serverErrors, failures,
+                percentileMillis(0.50), percentileMillis(0.99), percentileMillis(0.999), percentileMillis(1.0));
+    }
+
+    static String header() {
+        return String.format("%-16s %8s %9s %7s %6s %6s %6s %6s %8s %8s %8s %8s",
+                "route", "count", "req/s", "2xx", "304", "4xx", "5xx", "error", "p50 ms", "p99 ms", "p999 ms", "max ms");
+    }
+}
@@ -0,0 +1,489 @@
+// src/loadtest/java/me/help/minecraft_store/loadtest/LoadTest.java
+package me.help.minecraft_store.loadtest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import me.help.minecraft_store.data.PlayerProfileData;
+import me.help.minecraft_store.services.InMemoryProfileStore;
+import me.help.minecraft_store.services.firestore.FirestoreDocuments;
+import me.help.minecraft_store.services.firestore.FirestoreRestClient;
+
+import java.io.IOException;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Offline load test for the HTTP API.
+ * <p>
+ * Boots the real {@code WebServer} inside a simulated Bukkit server with a stubbed PlaceholderAPI and an in-memory
+ * profile store, drives a configurable request mix at a fixed arrival rate and reports throughput, latency
+ * percentiles, how much main-thread time the requests cost and the plugin's footprint after startup.
+ * <p>
+ * Run with {@code mvn -Ploadtest test-compile exec:java -Dexec.args="--rate=500 --duration=60"}.
+ * Options (all {@code --name=value}):
+ * <ul>
+ *     <li>{@code rate} requests per second (default 200), {@code duration} and {@code warmup} in seconds (30, 10)</li>
+ *     <li>{@code mix} weighted routes, default {@code player-stats:70,execute-command:10,generate-code:10,verify-code:10}</li>
+ *     <li>{@code players} known players (1000), {@code onlineFraction} share of them online (0.05)</li>
+ *     <li>{@code papiLatencyUs} main-thread cost of one placeholder batch (500), {@code storeLatencyMs} profile store
+ *     round-trip (5), {@code commandCostUs} main-thread cost of a dispatched command (200)</li>
+ *     <li>{@code store} {@code memory} (default), {@code firestore-rest}, which runs the real REST profile store
+ *     against a local {@link StubFirestoreServer} answering after {@code storeLatencyMs}, or {@code firestore-sdk},
+ *     which runs the client-library store against a Firestore emulator started separately at {@code emulatorHost}
+ *     (e.g. {@code gcloud emulators firestore start --host-port=127.0.0.1:8686}). Comparing the startup footprint
+ *     of the two Firestore stores needs a build with the firestore-sdk profile</li>
+ *     <li>{@code revalidateFraction} share of /player-stats requests sending If-None-Match when an ETag is known (0.5)</li>
+ *     <li>{@code plugins} simulated enabled plugins ({@code Fabled,AuraSkills,Vault}), {@code port} (4567),
+ *     {@code virtualThreads} (false), {@code cacheTtl} seconds (30)</li>
+ *     <li>{@code report} path of a JSON report, {@code maxP99Ms} and {@code maxMainThreadPct} fail the run when exceeded</li>
+ * </ul>
+ */
+public final class LoadTest {
+
+    private static final String SECRET = "loadtest-secret";
+    private static final Gson GSON = new Gson();
+
+    private final Map<String, String> options;
+    private final List<UUID> playerIds = new ArrayList<>();
+    private final List<String> playerNames = new ArrayList<>();
+    private final List<String> onlineNames = new ArrayList<>();
+    private final Map<UUID, String> knownEtags = new ConcurrentHashMap<>();
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+
+    private LoadTest(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new LoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        int port = intOption("port", 4567);
+        int rate = intOption("rate", 200);
+        int durationSeconds = intOption("duration", 30);
+        int warmupSeconds = intOption("warmup", 10);
+        int players = intOption("players", 1000);
+        double onlineFraction = doubleOption("onlineFraction", 0.05);
+        Map<String, Integer> mix = parseMix(options.getOrDefault("mix", "player-stats:70,execute-command:10,generate-code:10,verify-code:10"));
+        Set<String> plugins = new HashSet<>(Arrays.asList(options.getOrDefault("plugins", "Fabled,AuraSkills,Vault").split(",")));
+
+        String store = options.getOrDefault("store", "memory");
+        long storeLatencyMillis = longOption("storeLatencyMs", 5);
+
+        Path dataFolder = Files.createTempDirectory("atlascore-loadtest");
+        SimulatedServer server = SimulatedServer.install(plugins, TimeUnit.MICROSECONDS.toNanos(longOption("commandCostUs", 200)));
+        SimulatedPlaceholderService placeholders = new SimulatedPlaceholderService(TimeUnit.MICROSECONDS.toNanos(longOption("papiLatencyUs", 500)));
+        SimulatedAtlasCoreConnector plugin = new SimulatedAtlasCoreConnector(server.getServer(), dataFolder.toFile())
+                .withPlaceholderService(placeholders);
+
+        DelayedProfileStore profileStore = null;
+        StubFirestoreServer firestore = null;
+        if ("firestore-rest".equals(store)) {
+            StubFirestoreServer stub = new StubFirestoreServer(storeLatencyMillis);
+            stub.writeServiceAccount(dataFolder.resolve("service-account.json"));
+            seedPlayers(server, profile -> stub.put("player_profiles", profile.getUuid(), FirestoreDocuments.encodeProfile(profile)),
+                    players, onlineFraction);
+            writeConfig(dataFolder, port, "firestore-rest", Arrays.asList(
+                    "firebase:",
+                    "  serviceAccountKeyPath: \"service-account.json\"",
+                    "  rest:",
+                    "    baseUrl: \"" + stub.getBaseUrl() + "\""));
+            firestore = stub;
+        } else if ("firestore-sdk".equals(store)) {
+            String emulatorHost = options.get("emulatorHost");
+            if (emulatorHost == null) {
+                throw new IllegalArgumentException("--store=firestore-sdk needs --emulatorHost=host:port of a running Firestore emulator");
+            }
+            // The emulator serves the REST API on the same port, so the REST client seeds it
+            FirestoreRestClient seeder = new FirestoreRestClient(HttpClient.newHttpClient(), "http://" + emulatorHost + "/v1",
+                    StubFirestoreServer.PROJECT_ID, null, Duration.ofSeconds(10));
+            seedPlayers(server, profile -> seeder.commit(Collections.singletonList(seeder.updateWrite(
+                    seeder.documentName("player_profiles", profile.getUuid()), FirestoreDocuments.encodeProfile(profile)))).join(),
+                    players, onlineFraction);
+            writeConfig(dataFolder, port, "firestore", Arrays.asList(
+                    "firebase:",
+                    "  projectId: \"" + StubFirestoreServer.PROJECT_ID + "\"",
+                    "  emulatorHost: \"" + emulatorHost + "\""));
+        } else if ("memory".equals(store)) {
+            InMemoryProfileStore memoryStore = new InMemoryProfileStore();
+            seedPlayers(server, memoryStore::save, players, onlineFraction);
+            profileStore = new DelayedProfileStore(memoryStore, storeLatencyMillis);
+            plugin.withProfileStore(profileStore);
+            writeConfig(dataFolder, port, "memory", Collections.emptyList());
+        } else {
+            throw new IllegalArgumentException("Unknown store: " + store);
+        }
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(intOption("clientThreads", 32), SimulatedScheduler.daemonThreads("LoadTest Client"));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientExecutor)
+                .build();
+
+        long enableStart = System.nanoTime();
+        server.getScheduler().runOnMainThread(plugin::onEnable).get(30, TimeUnit.SECONDS);
+        awaitReadiness(client, port);
+        double startupMillis = (System.nanoTime() - enableStart) / 1_000_000.0;
+        if (!Boolean.parseBoolean(options.getOrDefault("verbose", "false"))) {
+            plugin.getLogger().setLevel(Level.WARNING);
+        }
+        System.out.printf("/health reported ready %.0f ms after onEnable.%n", startupMillis);
+        Map<String, Object> footprint = measureFootprint();
+        System.out.printf("Footprint after startup: %.1f MB heap, %.1f MB metaspace, %d classes loaded, %d threads%n",
+                (Double) footprint.get("heapUsedMb"), (Double) footprint.get("metaspaceMb"),
+                (Integer) footprint.get("loadedClasses"), (Integer) footprint.get("threads"));
+
+        for (String route : mix.keySet()) {
+            recorders.put(route, new LatencyRecorder(route));
+        }
+        double measuredSeconds = drive(client, port, rate, warmupSeconds, durationSeconds, mix, server);
+
+        Map<String, Object> mainThread = new LinkedHashMap<>();
+        long ticks = server.getMainThread().getTicks();
+        double busyMillis = server.getMainThread().getBusyNanos() / 1_000_000.0;
+        long requests = recorders.values().stream().mapToLong(LatencyRecorder::getCount).sum();
+        mainThread.put("ticks", ticks);
+        mainThread.put("busyMillis", busyMillis);
+        mainThread.put("busyPercent", busyMillis / (measuredSeconds * 10.0));
+        mainThread.put("avgTickMillis", ticks > 0 ? busyMillis / ticks : 0);
+        mainThread.put("maxTickMillis", server.getMainThread().getMaxTickNanos() / 1_000_000.0);
+        mainThread.put("ticksOverBudget", server.getMainThread().getTicksOverBudget());
+        mainThread.put("tasksRun", server.getMainThread().getTasksRun());
+        mainThread.put("microsPerRequest", requests > 0 ? busyMillis * 1000.0 / requests : 0);
+
+        LatencyRecorder overall = new LatencyRecorder("all");
+        recorders.values().forEach(overall::merge);
+        String storeSummary;
+        if (profileStore != null) {
+            storeSummary = String.format("profile loads: %d, profile saves: %d", profileStore.getLoads(), profileStore.getSaves());
+        } else if (firestore != null) {
+            storeSummary = String.format("Firestore batchGets: %d (%d documents), commits: %d, patches: %d, token requests: %d",
+                    firestore.getBatchGets(), firestore.getDocumentsRead(), firestore.getCommits(), firestore.getPatches(), firestore.getTokenRequests());
+        } else {
+            storeSummary = "Firestore emulator, no request counts";
+        }
+        printReport(rate, measuredSeconds, startupMillis, overall, mainThread, server, placeholders, storeSummary);
+
+        server.getScheduler().runOnMainThread(plugin::onDisable).get(30, TimeUnit.SECONDS);
+        server.shutdown();
+        if (firestore != null) {
+            firestore.stop();
+        }
+        clientExecutor.shutdownNow();
+
+        writeJsonReport(rate, measuredSeconds, startupMillis, footprint, overall, mainThread);
+        checkThresholds(overall, (Double) mainThread.get("busyPercent"));
+    }
+
+    /**
+     * Sends requests at a fixed arrival rate (open model) regardless of how fast responses come back.
+     * @return the length of the measured window in seconds.
+     */
+    private double drive(HttpClient client, int port, int rate, int warmupSeconds, int durationSeconds,
+                         Map<String, Integer> mix, SimulatedServer server) throws InterruptedException {
+        List<String> weightedRoutes = new ArrayList<>();
+        mix.forEach((route, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weightedRoutes.add(route);
+            }
+        });
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        AtomicLong inFlight = new AtomicLong();
+        boolean measuring = false;
+
+        System.out.printf("Warming up for %d s, then measuring for %d s at %d req/s...%n", warmupSeconds, durationSeconds, rate);
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!measuring && intended >= measureFrom) {
+                server.getMainThread().resetStats();
+                measuring = true;
+            }
+
+            String route = weightedRoutes.get(ThreadLocalRandom.current().nextInt(weightedRoutes.size()));
+            RouteRequest request = buildRequest(route, port);
+            boolean record = measuring;
+            inFlight.incrementAndGet();
+            client.sendAsync(request.httpRequest, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+                long latency = System.nanoTime() - intended;
+                if (record) {
+                    recorders.get(route).record(latency, response != null ? response.statusCode() : 0);
+                }
+                if (response != null && request.playerId != null) {
+                    response.headers().firstValue("ETag").ifPresent(etag -> knownEtags.put(request.playerId, etag));
+                }
+                inFlight.decrementAndGet();
+            });
+        }
+        double measuredSeconds = (System.nanoTime() - measureFrom) / 1_000_000_000.0;
+
+        // Let the stragglers finish so their latency is part of the report
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        return measuredSeconds;
+    }
+
+    private RouteRequest buildRequest(String route, int port) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> body = new LinkedHashMap<>();
+        UUID playerId = null;
+        String path;
+        switch (route) {
+            case "player-stats":
+                path = "/player-stats";
+                playerId = playerIds.get(random.nextInt(playerIds.size()));
+                body.put("uuid", playerId.toString());
+                break;
+            case "execute-command":
+                path = "/execute-command";
+                body.put("command", "say Thanks for your purchase, {player}!");
+                body.put("playerContext", Map.of("playerName", playerNames.get(random.nextInt(playerNames.size()))));
+                break;
+            case "generate-code":
+                path = "/generate-and-send-code";
+                body.put("username", onlineNames.get(random.nextInt(onlineNames.size())));
+                break;
+            case "verify-code":
+                path = "/verify-code";
+                body.put("username", onlineNames.get(random.nextInt(onlineNames.size())));
+                body.put("code", String.format("%06d", random.nextInt(999999)));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown route in mix: " + route);
+        }
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                .timeout(Duration.ofMillis(longOption("timeoutMs", 10000)))
+                .header("Authorization", "Bearer " + SECRET)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(GSON.toJson(body)));
+        if (playerId != null && random.nextDouble() < doubleOption("revalidateFraction", 0.5)) {
+            String etag = knownEtags.get(playerId);
+            if (etag != null) {
+                builder.header("If-None-Match", etag);
+            }
+        }
+        return new RouteRequest(builder.build(), playerId);
+    }
+
+    private void seedPlayers(SimulatedServer server, Consumer<PlayerProfileData> store, int players, double onlineFraction) {
+        int online = Math.max(1, (int) Math.round(players * onlineFraction));
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < players; i++) {
+            UUID uuid = UUID.nameUUIDFromBytes(("loadtest-player-" + i).getBytes(StandardCharsets.UTF_8));
+            String name = "LoadTester" + i;
+            boolean isOnline = i < online;
+            server.addPlayer(uuid, name, isOnline);
+            store.accept(new PlayerProfileData(uuid, name, Map.of("player_name", name), now - i * 1000L));
+            playerIds.add(uuid);
+            playerNames.add(name);
+            if (isOnline) {
+                onlineNames.add(name);
+            }
+        }
+    }
+
+    /**
+     * @param backend       Value of storage.backend; "memory" stands for the injected in-memory store.
+     * @param firebaseLines Lines of the firebase section the backend needs, if any.
+     */
+    private void writeConfig(Path dataFolder, int port, String backend, List<String> firebaseLines) throws IOException {
+        List<String> lines = new ArrayList<>(Arrays.asList(
+                "webhook:",
+                "  port: " + port,
+                "  secret: \"" + SECRET + "\"",
+                "  statsCache:",
+                "    ttlSeconds: " + intOption("cacheTtl", 30),
+                "  threadPool:",
+                "    virtualThreads: " + options.getOrDefault("virtualThreads", "false"),
+                "stats:",
+                "  url: \"\"",
+                "storage:",
+                "  backend: " + backend));
+        lines.addAll(firebaseLines);
+        lines.add("");
+        Files.writeString(dataFolder.resolve("config.yml"), String.join("\n", lines));
+    }
+
+    /**
+     * Polls /health until every subsystem reports ready.
+     */
+    private void awaitReadiness(HttpClient client, int port) throws InterruptedException {
+        HttpRequest ping = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/health")).timeout(Duration.ofSeconds(1)).GET().build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (System.nanoTime() < deadline) {
+            try {
+                if (client.send(ping, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(25);
+        }
+        throw new IllegalStateException("The plugin did not report ready within 60 seconds");
+    }
+
+    /**
+     * Heap, metaspace, loaded classes and live threads once the plugin is up, after a full GC so runs compare.
+     */
+    private static Map<String, Object> measureFootprint() {
+        System.gc();
+        double metaspaceBytes = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if ("Metaspace".equals(pool.getName())) {
+                metaspaceBytes = pool.getUsage().getUsed();
+            }
+        }
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        Map<String, Object> footprint = new LinkedHashMap<>();
+        footprint.put("heapUsedMb", ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024.0 * 1024.0));
+        footprint.put("metaspaceMb", metaspaceBytes / (1024.0 * 1024.0));
+        footprint.put("loadedClasses", classLoading.getLoadedClassCount());
+        footprint.put("threads", ManagementFactory.getThreadMXBean().getThreadCount());
+        return footprint;
+    }
+
+    private void printReport(int rate, double measuredSeconds, double startupMillis, LatencyRecorder overall,
+                             Map<String, Object> mainThread, SimulatedServer server,
+                             SimulatedPlaceholderService placeholders, String storeSummary) {
+        System.out.println();
+        System.out.printf("== AtlasCoreConnector load test: target %d req/s, measured %.1f s, startup %.0f ms ==%n", rate, measuredSeconds, startupMillis);
+        System.out.println(LatencyRecorder.header());
+        recorders.values().forEach(recorder -> System.out.println(recorder.formatRow(measuredSeconds)));
+        System.out.println(overall.formatRow(measuredSeconds));
+        System.out.println();
+        System.out.printf("Main thread: %d ticks, busy %.1f ms (%.2f%% of wall time), avg %.3f ms/tick, max %.2f ms, %d ticks over 50 ms, %.1f us per request%n",
+                (Long) mainThread.get("ticks"), (Double) mainThread.get("busyMillis"), (Double) mainThread.get("busyPercent"),
+                ((Number) mainThread.get("avgTickMillis")).doubleValue(), (Double) mainThread.get("maxTickMillis"),
+                (Long) mainThread.get("ticksOverBudget"), ((Number) mainThread.get("microsPerRequest")).doubleValue());
+        System.out.printf("Placeholder batches: %d, commands dispatched: %d, %s%n",
+                placeholders.getBatches(), server.getDispatchedCommands(), storeSummary);
+    }
+
+    private void writeJsonReport(int rate, double measuredSeconds, double startupMillis, Map<String, Object> footprint,
+                                 LatencyRecorder overall, Map<String, Object> mainThread) throws IOException {
+        String reportPath = options.get("report");
+        if (reportPath == null) {
+            return;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options);
+        report.put("targetRate", rate);
+        report.put("measuredSeconds", measuredSeconds);
+        report.put("startupMillis", startupMillis);
+        report.put("footprint", footprint);
+        List<Map<String, Object>> routes = new ArrayList<>();
+        recorders.values().forEach(recorder -> routes.add(recorder.summary(measuredSeconds)));
+        report.put("routes", routes);
+        report.put("overall", overall.summary(measuredSeconds));
+        report.put("mainThread", mainThread);
+        Path path = Path.of(reportPath);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, new GsonBuilder().setPrettyPrinting().create().toJson(report));
+        System.out.println("Report written to " + path.toAbsolutePath());
+    }
+
+    private void checkThresholds(LatencyRecorder overall, double mainThreadPercent) {
+        List<String> violations = new ArrayList<>();
+        if (options.containsKey("maxP99Ms") && overall.percentileMillis(0.99) > doubleOption("maxP99Ms", 0)) {
+            violations.add(String.format("p99 %.2f ms > %s ms", overall.percentileMillis(0.99), options.get("maxP99Ms")));
+        }
+        if (options.containsKey("maxMainThreadPct") && mainThreadPercent > doubleOption("maxMainThreadPct", 0)) {
+            violations.add(String.format("main thread %.2f%% > %s%%", mainThreadPercent, options.get("maxMainThreadPct")));
+        }
+        if (overall.getServerErrorsAndFailures() > 0) {
+            System.out.println("WARNING: " + overall.getServerErrorsAndFailures() + " requests failed or returned 5xx.");
+        }
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Performance regression: " + String.join(", ", violations));
+        }
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] routeAndWeight = part.trim().split(":");
+            int weight = routeAndWeight.length > 1 ? Integer.parseInt(routeAndWeight[1]) : 1;
+            if (weight > 0) {
+                weights.put(routeAndWeight[0], weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The request mix is empty: " + mix);
+        }
+        return weights;
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    private long longOption(String name, long defaultValue) {
+        return options.containsKey(name) ? Long.parseLong(options.get(name)) : defaultValue;
+    }
+
+    private double doubleOption(String name, double defaultValue) {
+        return options.containsKey(name) ? Double.parseDouble(options.get(name)) : defaultValue;
+    }
+
+    private static final class RouteRequest {
+        private final HttpRequest httpRequest;
+        private final UUID playerId;
+
+        private RouteRequest(HttpRequest httpRequest, UUID playerId) {
+            this.httpRequest = httpRequest;
+            this.playerId = playerId;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+// src/loadtest/java/me/help/minecraft_store/loadtest/NetworkSimulation.java
+package me.help.minecraft_store.loadtest;
+
+import me.help.minecraft_store.data.NodeStatsData;
+import me.help.minecraft_store.data.PlayerProfileData;
+import me.help.minecraft_store.services.InMemoryProfileStore;
+import me.help.minecraft_store.services.NetworkStatsService;
+import me.help.minecraft_store.services.ProfileCoordinator;
+import me.help.minecraft_store.services.ProfileStore;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Several in-process servers sharing one in-memory profile store, with players hopping between them.
+ * <p>
+ * Each hop mimics a proxy switch: the player joins the next server while the quit-time save from the previous one
+ * is still in flight, and the next server saves fresh stats soon after. Store calls get random latency, so saves
+ * land out of order. The run then checks that no save ever replaced a newer profile, that every player ends up
+ * with the stats of their final session, that first joins are counted once per network and that node stats add up.
+ * <p>
+ * Run with {@code mvn -Ploadtest test-compile exec:java -Dloadtest.mainClass=me.help.minecraft_store.loadtest.NetworkSimulation}.
+ * Options (all {@code --name=value}): {@code nodes} (3), {@code players} (200), {@code hops} per player (20),
+ * {@code storeLatencyMs} (1), {@code jitterMs} (10) and {@code network} (true). With {@code --network=false} the
+ * same traffic runs without network mode, to show the stale overwrites it prevents.
+ */
+public final class NetworkSimulation {
+
+    private final Map<String, String> options;
+
+    private NetworkSimulation(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new NetworkSimulation(options).run();
+    }
+
+    private void run() throws Exception {
+        int nodeCount = intOption("nodes", 3);
+        int players = intOption("players", 200);
+        int hops = intOption("hops", 20);
+        boolean network = Boolean.parseBoolean(options.getOrDefault("network", "true"));
+        if (nodeCount < 2) {
+            throw new IllegalArgumentException("A network needs at least two nodes");
+        }
+
+        AuditingProfileStore shared = new AuditingProfileStore();
+        List<ProfileCoordinator> nodes = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            // Every node gets its own view of the store, with its own random latency
+            ProfileStore nodeStore = new DelayedProfileStore(shared, intOption("storeLatencyMs", 1), intOption("jitterMs", 10));
+            nodes.add(new ProfileCoordinator(nodeStore, network ? "node-" + (i + 1) : null));
+        }
+
+        // Logical clock: unique, increasing lastUpdated values no matter how fast the simulation runs
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        LongAdder firstJoins = new LongAdder();
+        LongAdder rejectedSaves = new LongAdder();
+        Map<UUID, Long> finalSessions = new HashMap<>();
+        int[] onlinePerNode = new int[nodeCount];
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+
+        System.out.printf("Simulating %d players hopping %d times between %d nodes (network mode %s)...%n",
+                players, hops, nodeCount, network ? "on" : "off");
+        long start = System.nanoTime();
+        for (int p = 0; p < players; p++) {
+            UUID uuid = UUID.nameUUIDFromBytes(("network-player-" + p).getBytes(StandardCharsets.UTF_8));
+            String name = "NetworkTester" + p;
+            int[] route = randomRoute(nodeCount, hops + 1);
+            onlinePerNode[route[hops]]++;
+
+            CompletableFuture<Void> chain = join(nodes.get(route[0]), uuid, name, firstJoins);
+            for (int h = 0; h < hops; h++) {
+                ProfileCoordinator from = nodes.get(route[h]);
+                ProfileCoordinator to = nodes.get(route[h + 1]);
+                long session = h;
+                chain = chain.thenCompose(v -> {
+                    // The old server's quit-time save is not awaited: the proxy has already moved the player on
+                    long quitTime = clock.incrementAndGet();
+                    CompletableFuture<Boolean> quit = from.save(profile(uuid, name, session, quitTime), true);
+                    synchronized (pending) {
+                        pending.add(quit.thenAccept(written -> count(written, rejectedSaves)));
+                    }
+                    return join(to, uuid, name, firstJoins)
+                            .thenCompose(joined -> to.save(profile(uuid, name, session + 1, clock.incrementAndGet()), false))
+                            .thenAccept(written -> count(written, rejectedSaves));
+                });
+            }
+            ProfileCoordinator last = nodes.get(route[hops]);
+            finalSessions.put(uuid, (long) hops + 1);
+            CompletableFuture<Void> finalQuit = chain.thenCompose(v -> last.save(profile(uuid, name, hops + 1, clock.incrementAndGet()), true))
+                    .thenAccept(written -> count(written, rejectedSaves));
+            synchronized (pending) {
+                pending.add(finalQuit);
+            }
+        }
+
+        // The final quits are part of the chains, the in-flight quit saves may still be landing after them
+        while (true) {
+            List<CompletableFuture<?>> snapshot;
+            synchronized (pending) {
+                snapshot = new ArrayList<>(pending);
+            }
+            CompletableFuture.allOf(snapshot.toArray(new CompletableFuture[0])).get(5, TimeUnit.MINUTES);
+            synchronized (pending) {
+                if (pending.size() == snapshot.size()) {
+                    break;
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        int wrongFinalState = 0;
+        int stillOwned = 0;
+        for (Map.Entry<UUID, Long> entry : finalSessions.entrySet()) {
+            PlayerProfileData stored = shared.load(entry.getKey()).get();
+            if (stored == null || !String.valueOf(entry.getValue()).equals(stored.getStats().get("session"))) {
+                wrongFinalState++;
+            }
+            if (stored != null && stored.getOwnerServerId() != null) {
+                stillOwned++;
+            }
+        }
+
+        List<String> violations = new ArrayList<>();
+        System.out.printf("Done in %.1f s: %d writes, %d rejected, %d stale overwrites, %d players with a wrong final profile, %d still owned, %d first joins%n",
+                seconds, shared.getWrites(), rejectedSaves.sum(), shared.getStaleOverwrites(), wrongFinalState, stillOwned, firstJoins.sum());
+        if (network) {
+            if (shared.getStaleOverwrites() > 0) {
+                violations.add(shared.getStaleOverwrites() + " saves replaced a newer profile");
+            }
+            if (wrongFinalState > 0) {
+                violations.add(wrongFinalState + " players did not keep the stats of their final session");
+            }
+            if (stillOwned > 0) {
+                violations.add(stillOwned + " profiles are still owned after every player left");
+            }
+            if (firstJoins.sum() != players) {
+                violations.add(firstJoins.sum() + " first joins counted for " + players + " players");
+            }
+            violations.addAll(checkNodeStats(shared, nodes, onlinePerNode));
+        }
+
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Network mode violations: " + String.join(", ", violations));
+        }
+        System.out.println(network ? "All network mode checks passed." : "Run with --network=true to compare.");
+    }
+
+    /**
+     * Every node reports how many simulated players it holds, then the totals must add up.
+     * A node that stopped reporting long ago must not count.
+     */
+    private List<String> checkNodeStats(ProfileStore shared, List<ProfileCoordinator> nodes, int[] onlinePerNode) throws Exception {
+        long staleAfterMillis = TimeUnit.MINUTES.toMillis(1);
+        shared.saveNodeStats(new NodeStatsData("node-crashed", 50, 100, 7, System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(10))).get();
+
+        Map<String, Object> totals = null;
+        int expectedOnline = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            NetworkStatsService stats = new NetworkStatsService(shared, nodes.get(i).getServerId(), staleAfterMillis);
+            totals = stats.report(onlinePerNode[i], 100, 1).get(10, TimeUnit.SECONDS);
+            expectedOnline += onlinePerNode[i];
+        }
+        System.out.println("Network totals: " + totals);
+
+        List<String> violations = new ArrayList<>();
+        if (((Number) totals.get("nodes")).intValue() != nodes.size()
+                || ((Number) totals.get("onlinePlayers")).intValue() != expectedOnline
+                || ((Number) totals.get("maxPlayers")).intValue() != 100 * nodes.size()
+                || ((Number) totals.get("newPlayers")).intValue() != nodes.size()) {
+            violations.add("network totals " + totals + " do not match " + nodes.size() + " nodes with " + expectedOnline + " players online");
+        }
+        return violations;
+    }
+
+    private static CompletableFuture<Void> join(ProfileCoordinator node, UUID uuid, String name, LongAdder firstJoins) {
+        return node.claim(uuid, name).thenAccept(firstJoin -> {
+            if (firstJoin) {
+                firstJoins.increment();
+            }
+        });
+    }
+
+    private static PlayerProfileData profile(UUID uuid, String name, long session, long lastUpdated) {
+        Map<String, String> stats = new HashMap<>();
+        stats.put("player_name", name);
+        stats.put("session", String.valueOf(session));
+        return new PlayerProfileData(uuid, name, stats, lastUpdated);
+    }
+
+    private static void count(boolean written, LongAdder rejected) {
+        if (!written) {
+            rejected.increment();
+        }
+    }
+
+    /**
+     * @return Node indexes a player visits, never the same node twice in a row.
+     */
+    private static int[] randomRoute(int nodeCount, int length) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] route = new int[length];
+        route[0] = random.nextInt(nodeCount);
+        for (int i = 1; i < length; i++) {
+            route[i] = (route[i - 1] + 1 + random.nextInt(nodeCount - 1)) % nodeCount;
+        }
+        return route;
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    /**
+     * The shared store. Counts every write that replaced a profile with a newer lastUpdated, which is exactly
+     * the lost update network mode exists to prevent. The check runs inside the store's atomic section.
+     */
+    private static final class AuditingProfileStore extends InMemoryProfileStore {
+
+        private final LongAdder writes = new LongAdder();
+        private final LongAdder staleOverwrites = new LongAdder();
+
+        @Override
+        public CompletableFuture<Void> save(PlayerProfileData profile) {
+            return saveIf(profile, current -> true).thenApply(written -> null);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> saveIf(PlayerProfileData profile, Predicate<PlayerProfileData> condition) {
+            return super.saveIf(profile, current -> {
+                if (!condition.test(current)) {
+                    return false;
+                }
+                writes.increment();
+                if (current != null && current.getLastUpdated() > profile.getLastUpdated()) {
+                    staleOverwrites.increment();
+                }
+                return true;
+            });
+        }
+
+        long getWrites() {
+            return writes.sum();
+        }
+
+        long getStaleOverwrites() {
+            return staleOverwrites.sum();
+        }
+    }
+}
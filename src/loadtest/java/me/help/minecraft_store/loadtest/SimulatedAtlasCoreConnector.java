@@ -0,0 +1,48 @@
+// src/loadtest/java/me/help/minecraft_store/loadtest/SimulatedAtlasCoreConnector.java
+package me.help.minecraft_store.loadtest;
+
+import me.help.minecraft_store.AtlasCoreConnector;
+import me.help.minecraft_store.services.PlaceholderService;
+import me.help.minecraft_store.services.ProfileStore;
+import org.bukkit.Server;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import java.io.File;
+
+/**
+ * AtlasCoreConnector wired to the simulated placeholder service and an injected profile store.
+ */
+final class SimulatedAtlasCoreConnector extends AtlasCoreConnector {
+
+    private ProfileStore profileStore;
+    private PlaceholderService placeholderService;
+
+    @SuppressWarnings("deprecation")
+    SimulatedAtlasCoreConnector(Server server, File dataFolder) {
+        super(new JavaPluginLoader(server),
+                new PluginDescriptionFile("AtlasCoreConnector", "loadtest", AtlasCoreConnector.class.getName()),
+                dataFolder,
+                new File(dataFolder, "AtlasCoreConnector.jar"));
+    }
+
+    SimulatedAtlasCoreConnector withProfileStore(ProfileStore profileStore) {
+        this.profileStore = profileStore;
+        return this;
+    }
+
+    SimulatedAtlasCoreConnector withPlaceholderService(PlaceholderService placeholderService) {
+        this.placeholderService = placeholderService;
+        return this;
+    }
+
+    @Override
+    protected ProfileStore createProfileStore() {
+        return profileStore != null ? profileStore : super.createProfileStore();
+    }
+
+    @Override
+    protected PlaceholderService createPlaceholderService() {
+        return placeholderService != null ? placeholderService : super.createPlaceholderService();
+    }
+}
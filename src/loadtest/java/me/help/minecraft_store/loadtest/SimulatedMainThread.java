@@ -0,0 +1,139 @@
+// src/loadtest/java/me/help/minecraft_store/loadtest/SimulatedMainThread.java
+package me.help.minecraft_store.loadtest;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stand-in for the server's main thread: runs synchronous tasks once per 50 ms tick and measures
+ * how much of each tick they consume.
+ */
+final class SimulatedMainThread {
+
+    static final long TICK_NANOS = 50_000_000L;
+
+    private final Logger logger;
+    private final Thread thread;
+    private final ConcurrentLinkedQueue<SimulatedTask> incoming = new ConcurrentLinkedQueue<>();
+    // Only touched by the main thread itself
+    private final List<SimulatedTask> scheduled = new ArrayList<>();
+    private volatile boolean running = true;
+    private long currentTick;
+
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+    private final AtomicLong maxTickNanos = new AtomicLong();
+    private final AtomicLong ticksOverBudget = new AtomicLong();
+    private final AtomicLong tasksRun = new AtomicLong();
+
+    SimulatedMainThread(Logger logger) {
+        this.logger = logger;
+        this.thread = new Thread(this::loop, "Simulated Server thread");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    boolean isPrimaryThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    void submit(SimulatedTask task) {
+        incoming.add(task);
+    }
+
+    private void loop() {
+        long nextTickStart = System.nanoTime();
+        while (running) {
+            long tickStart = System.nanoTime();
+            currentTick++;
+
+            SimulatedTask task;
+            while ((task = incoming.poll()) != null) {
+                task.dueTick = currentTick + Math.max(0L, task.delayTicks - 1);
+                scheduled.add(task);
+            }
+
+            int ran = 0;
+            Iterator<SimulatedTask> iterator = scheduled.iterator();
+            while (iterator.hasNext()) {
+                SimulatedTask next = iterator.next();
+                if (next.isCancelled()) {
+                    iterator.remove();
+                    continue;
+                }
+                if (next.dueTick > currentTick) {
+                    continue;
+                }
+                try {
+                    next.runnable.run();
+                } catch (Throwable t) {
+                    logger.log(Level.WARNING, "Task #" + next.id + " threw an exception on the simulated main thread", t);
+                }
+                ran++;
+                if (next.periodTicks > 0 && !next.isCancelled()) {
+                    next.dueTick = currentTick + next.periodTicks;
+                } else {
+                    iterator.remove();
+                }
+            }
+
+            long tickNanos = System.nanoTime() - tickStart;
+            ticks.incrementAndGet();
+            busyNanos.addAndGet(tickNanos);
+            tasksRun.addAndGet(ran);
+            maxTickNanos.accumulateAndGet(tickNanos, Math::max);
+            if (tickNanos > TICK_NANOS) {
+                ticksOverBudget.incrementAndGet();
+            }
+
+            // Like a real server, a lagging tick is followed immediately by the next one
+            nextTickStart = Math.max(nextTickStart + TICK_NANOS, System.nanoTime());
+            long sleep;
+            while (running && (sleep = nextTickStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(sleep);
+            }
+        }
+    }
+
+    void resetStats() {
+        ticks.set(0);
+        busyNanos.set(0);
+        maxTickNanos.set(0);
+        ticksOverBudget.set(0);
+        tasksRun.set(0);
+    }
+
+    long getTicks() {
+        return ticks.get();
+    }
+
+    long getBusyNanos() {
+        return busyNanos.get();
+    }
+
+    long getMaxTickNanos() {
+        return maxTickNanos.get();
+    }
+
+    long getTicksOverBudget() {
+        return ticksOverBudget.get();
+    }
+
+    long getTasksRun() {
+        return tasksRun.get();
+    }
+}
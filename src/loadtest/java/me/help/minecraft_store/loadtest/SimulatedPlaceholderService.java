@@ -0,0 +1,41 @@
+// src/loadtest/java/me/help/minecraft_store/loadtest/SimulatedPlaceholderService.java
+package me.help.minecraft_store.loadtest;
+
+import me.help.minecraft_store.services.PlaceholderService;
+import org.bukkit.OfflinePlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replaces PlaceholderAPI with deterministic values and a configurable per-batch cost.
+ * The cost is burned on the calling thread, which for /player-stats is the main thread.
+ */
+final class SimulatedPlaceholderService extends PlaceholderService {
+
+    private final long batchCostNanos;
+    private final LongAdder batches = new LongAdder();
+
+    SimulatedPlaceholderService(long batchCostNanos) {
+        this.batchCostNanos = batchCostNanos;
+    }
+
+    @Override
+    protected List<String> setPlaceholders(OfflinePlayer player, List<String> placeholders) {
+        Stubs.burn(batchCostNanos);
+        batches.increment();
+
+        List<String> values = new ArrayList<>(placeholders.size());
+        int seed = player.getUniqueId().hashCode();
+        for (String placeholder : placeholders) {
+            int value = Math.floorMod(seed * 31 + placeholder.hashCode(), 100);
+            values.add(placeholder.equals("%vault_eco_balance%") ? String.format("%,d.00", value * 1000) : String.valueOf(value));
+        }
+        return values;
+    }
+
+    long getBatches() {
+        return batches.sum();
+    }
+}
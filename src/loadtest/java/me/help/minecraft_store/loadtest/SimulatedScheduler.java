@@ -0,0 +1,171 @@
+// src/loadtest/java/me/help/minecraft_store/loadtest/SimulatedScheduler.java
+package me.help.minecraft_store.loadtest;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * BukkitScheduler replacement: sync tasks go to the {@link SimulatedMainThread}, async tasks to a cached pool.
+ */
+final class SimulatedScheduler {
+
+    private final Logger logger;
+    private final SimulatedMainThread mainThread;
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final Map<Integer, SimulatedTask> tasks = new ConcurrentHashMap<>();
+    private final ExecutorService asyncPool = Executors.newCachedThreadPool(daemonThreads("Simulated Scheduler Thread"));
+    private final ScheduledExecutorService asyncTimer = Executors.newSingleThreadScheduledExecutor(daemonThreads("Simulated Scheduler Timer"));
+    private final BukkitScheduler bukkitScheduler;
+
+    SimulatedScheduler(Logger logger, SimulatedMainThread mainThread) {
+        this.logger = logger;
+        this.mainThread = mainThread;
+
+        Map<String, Stubs.Answer> answers = new HashMap<>();
+        answers.put("runTask", args -> schedule(args, true, 0L, 0L));
+        answers.put("runTaskLater", args -> schedule(args, true, (Long) args[2], 0L));
+        answers.put("runTaskTimer", args -> schedule(args, true, (Long) args[2], (Long) args[3]));
+        answers.put("runTaskAsynchronously", args -> schedule(args, false, 0L, 0L));
+        answers.put("runTaskLaterAsynchronously", args -> schedule(args, false, (Long) args[2], 0L));
+        answers.put("runTaskTimerAsynchronously", args -> schedule(args, false, (Long) args[2], (Long) args[3]));
+        answers.put("scheduleSyncDelayedTask", args -> {
+            long delay = args.length > 2 ? (Long) args[2] : 0L;
+            return submit((Plugin) args[0], (Runnable) args[1], true, delay, 0L).id;
+        });
+        answers.put("callSyncMethod", args -> callSyncMethod((Plugin) args[0], (Callable<?>) args[1]));
+        answers.put("cancelTask", args -> {
+            SimulatedTask task = tasks.remove((Integer) args[0]);
+            if (task != null) {
+                task.cancel();
+            }
+            return null;
+        });
+        answers.put("cancelTasks", args -> {
+            tasks.values().removeIf(task -> {
+                if (task.owner == args[0]) {
+                    task.cancel();
+                    return true;
+                }
+                return false;
+            });
+            return null;
+        });
+        answers.put("isQueued", args -> tasks.containsKey((Integer) args[0]));
+        this.bukkitScheduler = Stubs.proxy(BukkitScheduler.class, answers);
+    }
+
+    BukkitScheduler asBukkitScheduler() {
+        return bukkitScheduler;
+    }
+
+    /**
+     * Runs a task on the simulated main thread and completes once it has run.
+     */
+    CompletableFuture<Void> runOnMainThread(Runnable runnable) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        submit(null, () -> {
+            try {
+                runnable.run();
+                done.complete(null);
+            } catch (Throwable t) {
+                done.completeExceptionally(t);
+            }
+        }, true, 0L, 0L);
+        return done;
+    }
+
+    void shutdown() {
+        tasks.values().forEach(SimulatedTask::cancel);
+        tasks.clear();
+        asyncTimer.shutdownNow();
+        asyncPool.shutdownNow();
+    }
+
+    // Both the BukkitRunnable (Runnable) and the Consumer<BukkitTask> overloads end up here
+    @SuppressWarnings("unchecked")
+    private Object schedule(Object[] args, boolean sync, long delay, long period) {
+        Plugin plugin = (Plugin) args[0];
+        if (args[1] instanceof Runnable) {
+            return submit(plugin, (Runnable) args[1], sync, delay, period).asBukkitTask();
+        }
+        Consumer<BukkitTask> consumer = (Consumer<BukkitTask>) args[1];
+        SimulatedTask[] holder = new SimulatedTask[1];
+        holder[0] = submit(plugin, () -> consumer.accept(holder[0].asBukkitTask()), sync, delay, period);
+        return null;
+    }
+
+    private SimulatedTask submit(Plugin plugin, Runnable runnable, boolean sync, long delay, long period) {
+        int id = nextId.getAndIncrement();
+        // One-shot tasks forget themselves once they ran so the task table does not grow per request
+        Runnable body = period > 0 ? runnable : () -> {
+            try {
+                runnable.run();
+            } finally {
+                tasks.remove(id);
+            }
+        };
+        SimulatedTask task = new SimulatedTask(id, plugin, body, sync, Math.max(0L, delay), Math.max(0L, period));
+        tasks.put(task.id, task);
+        if (sync) {
+            mainThread.submit(task);
+            return task;
+        }
+
+        Runnable asyncBody = () -> {
+            if (task.isCancelled()) {
+                return;
+            }
+            try {
+                task.runnable.run();
+            } catch (Throwable t) {
+                logger.log(Level.WARNING, "Async task #" + task.id + " threw an exception", t);
+            }
+        };
+        long delayMillis = task.delayTicks * 50L;
+        if (task.periodTicks > 0) {
+            task.future = asyncTimer.scheduleAtFixedRate(() -> asyncPool.execute(asyncBody), delayMillis, task.periodTicks * 50L, TimeUnit.MILLISECONDS);
+        } else if (delayMillis > 0) {
+            task.future = asyncTimer.schedule(() -> asyncPool.execute(asyncBody), delayMillis, TimeUnit.MILLISECONDS);
+        } else {
+            task.future = asyncPool.submit(asyncBody);
+        }
+        return task;
+    }
+
+    private <T> CompletableFuture<T> callSyncMethod(Plugin plugin, Callable<T> callable) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submit(plugin, () -> {
+            try {
+                result.complete(callable.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }, true, 0L, 0L);
+        return result;
+    }
+
+    static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + " - " + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
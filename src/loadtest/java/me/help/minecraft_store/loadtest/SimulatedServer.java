@@ -0,0 +1,153 @@
+// src/loadtest/java/me/help/minecraft_store/loadtest/SimulatedServer.java
+package me.help.minecraft_store.loadtest;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * A fake Bukkit server good enough to run AtlasCoreConnector outside Minecraft.
+ * It is installed as the global {@link Bukkit} server, so there can only be one per JVM.
+ */
+final class SimulatedServer {
+
+    private final Logger logger = Logger.getLogger("SimulatedServer");
+    private final SimulatedMainThread mainThread = new SimulatedMainThread(logger);
+    private final SimulatedScheduler scheduler = new SimulatedScheduler(logger, mainThread);
+    private final Set<String> enabledPlugins;
+    private final long commandCostNanos;
+    private final Map<UUID, OfflinePlayer> playersById = new ConcurrentHashMap<>();
+    private final Map<String, OfflinePlayer> playersByName = new ConcurrentHashMap<>();
+    private final List<Player> onlinePlayers = new ArrayList<>();
+    private final LongAdder dispatchedCommands = new LongAdder();
+    private final Server server;
+
+    private SimulatedServer(Set<String> enabledPlugins, long commandCostNanos) {
+        this.enabledPlugins = enabledPlugins;
+        this.commandCostNanos = commandCostNanos;
+
+        PluginManager pluginManager = Stubs.proxy(PluginManager.class, Map.of(
+                "isPluginEnabled", args -> {
+                    String name = args[0] instanceof Plugin ? ((Plugin) args[0]).getName() : String.valueOf(args[0]);
+                    return enabledPlugins.contains(name);
+                }
+        ));
+        ConsoleCommandSender console = Stubs.proxy(ConsoleCommandSender.class, Map.of(
+                "getName", args -> "CONSOLE",
+                "isOp", args -> true,
+                "hasPermission", args -> true
+        ));
+
+        Map<String, Stubs.Answer> answers = new HashMap<>();
+        answers.put("getLogger", args -> logger);
+        answers.put("getName", args -> "SimulatedServer");
+        answers.put("getVersion", args -> "loadtest");
+        answers.put("getBukkitVersion", args -> "1.20.6-R0.1-SNAPSHOT");
+        answers.put("getScheduler", args -> scheduler.asBukkitScheduler());
+        answers.put("getPluginManager", args -> pluginManager);
+        answers.put("getConsoleSender", args -> console);
+        answers.put("getMaxPlayers", args -> 100);
+        answers.put("isPrimaryThread", args -> mainThread.isPrimaryThread());
+        answers.put("getOnlinePlayers", args -> {
+            synchronized (onlinePlayers) {
+                return new ArrayList<>(onlinePlayers);
+            }
+        });
+        answers.put("getOfflinePlayer", args -> args[0] instanceof UUID
+                ? playersById.computeIfAbsent((UUID) args[0], uuid -> unknownPlayer(uuid, null))
+                : playersByName.getOrDefault(((String) args[0]).toLowerCase(Locale.ROOT), unknownPlayer(UUID.randomUUID(), (String) args[0])));
+        answers.put("getPlayerExact", args -> onlinePlayer(playersByName.get(((String) args[0]).toLowerCase(Locale.ROOT))));
+        answers.put("getPlayer", args -> onlinePlayer(args[0] instanceof UUID
+                ? playersById.get((UUID) args[0])
+                : playersByName.get(((String) args[0]).toLowerCase(Locale.ROOT))));
+        answers.put("dispatchCommand", args -> {
+            // Stand-in for whatever the dispatched command costs on the main thread
+            Stubs.burn(commandCostNanos);
+            dispatchedCommands.increment();
+            return true;
+        });
+        this.server = Stubs.proxy(Server.class, answers);
+    }
+
+    /**
+     * Creates the simulated server, registers it with {@link Bukkit} and starts ticking.
+     */
+    static SimulatedServer install(Set<String> enabledPlugins, long commandCostNanos) {
+        SimulatedServer simulatedServer = new SimulatedServer(enabledPlugins, commandCostNanos);
+        Bukkit.setServer(simulatedServer.server);
+        simulatedServer.mainThread.start();
+        return simulatedServer;
+    }
+
+    void addPlayer(UUID uuid, String name, boolean online) {
+        OfflinePlayer player;
+        if (online) {
+            Player onlinePlayer = Stubs.proxy(Player.class, playerAnswers(uuid, name, true));
+            synchronized (onlinePlayers) {
+                onlinePlayers.add(onlinePlayer);
+            }
+            player = onlinePlayer;
+        } else {
+            player = Stubs.proxy(OfflinePlayer.class, playerAnswers(uuid, name, false));
+        }
+        playersById.put(uuid, player);
+        playersByName.put(name.toLowerCase(Locale.ROOT), player);
+    }
+
+    Server getServer() {
+        return server;
+    }
+
+    SimulatedMainThread getMainThread() {
+        return mainThread;
+    }
+
+    SimulatedScheduler getScheduler() {
+        return scheduler;
+    }
+
+    long getDispatchedCommands() {
+        return dispatchedCommands.sum();
+    }
+
+    void shutdown() {
+        scheduler.shutdown();
+        mainThread.shutdown();
+    }
+
+    private static Player onlinePlayer(OfflinePlayer player) {
+        return player instanceof Player ? (Player) player : null;
+    }
+
+    private static OfflinePlayer unknownPlayer(UUID uuid, String name) {
+        return Stubs.proxy(OfflinePlayer.class, Map.of(
+                "getUniqueId", args -> uuid,
+                "getName", args -> name
+        ));
+    }
+
+    private static Map<String, Stubs.Answer> playerAnswers(UUID uuid, String name, boolean online) {
+        Map<String, Stubs.Answer> answers = new HashMap<>();
+        answers.put("getUniqueId", args -> uuid);
+        answers.put("getName", args -> name);
+        answers.put("getDisplayName", args -> name);
+        answers.put("hasPlayedBefore", args -> true);
+        answers.put("isOnline", args -> online);
+        return answers;
+    }
+}
@@ -0,0 +1,60 @@
+// src/loadtest/java/me/help/minecraft_store/loadtest/SimulatedTask.java
+package me.help.minecraft_store.loadtest;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Map;
+import java.util.concurrent.Future;
+
+/**
+ * A task handed to the simulated scheduler, either for the main thread or for the async pool.
+ */
+final class SimulatedTask {
+
+    final int id;
+    final Plugin owner;
+    final Runnable runnable;
+    final boolean sync;
+    final long delayTicks;
+    final long periodTicks;
+    // Main-thread bookkeeping
+    long dueTick;
+    // Async bookkeeping
+    volatile Future<?> future;
+    private volatile boolean cancelled;
+
+    SimulatedTask(int id, Plugin owner, Runnable runnable, boolean sync, long delayTicks, long periodTicks) {
+        this.id = id;
+        this.owner = owner;
+        this.runnable = runnable;
+        this.sync = sync;
+        this.delayTicks = delayTicks;
+        this.periodTicks = periodTicks;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    void cancel() {
+        cancelled = true;
+        Future<?> asyncFuture = future;
+        if (asyncFuture != null) {
+            asyncFuture.cancel(false);
+        }
+    }
+
+    BukkitTask asBukkitTask() {
+        return Stubs.proxy(BukkitTask.class, Map.of(
+                "getTaskId", args -> id,
+                "getOwner", args -> owner,
+                "isSync", args -> sync,
+                "isCancelled", args -> cancelled,
+                "cancel", args -> {
+                    cancel();
+                    return null;
+                }
+        ));
+    }
+}
@@ -0,0 +1,75 @@
+// src/loadtest/java/me/help/minecraft_store/loadtest/Stubs.java
+package me.help.minecraft_store.loadtest;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Minimal dynamic-proxy stubs for the parts of the Bukkit API the plugin touches.
+ * Every method without an explicit answer returns a harmless default.
+ */
+final class Stubs {
+
+    @FunctionalInterface
+    interface Answer {
+        Object answer(Object[] args) throws Throwable;
+    }
+
+    private Stubs() {
+    }
+
+    static <T> T proxy(Class<T> type, Map<String, Answer> answers) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            Object[] safeArgs = args != null ? args : new Object[0];
+            Answer answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.answer(safeArgs);
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return self == safeArgs[0];
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "toString":
+                    return type.getSimpleName() + "Stub";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0d;
+        if (type == float.class) return 0f;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return '\0';
+        if (type == List.class || type == Collection.class) return Collections.emptyList();
+        if (type == Set.class) return Collections.emptySet();
+        if (type == Map.class) return Collections.emptyMap();
+        if (type == Optional.class) return Optional.empty();
+        return null;
+    }
+
+    /**
+     * Keeps the calling thread busy for the given time, standing in for CPU work done by another plugin.
+     */
+    static void burn(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + nanos;
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -3,41 +3,99 @@ package me.help.minecraft_store;
 
 import me.help.minecraft_store.listeners.PlayerListener;
 import me.help.minecraft_store.listeners.PlayerQuitListener; // NEW: Import PlayerQuitListener
+import me.help.minecraft_store.tasks.EventSenderTask;
 import me.help.minecraft_store.tasks.StatsTask;
+import me.help.minecraft_store.web.PlayerStatsCache;
 import me.help.minecraft_store.web.WebServer;
+import me.help.minecraft_store.services.FirestoreRestProfileStore;
+import me.help.minecraft_store.services.InMemoryProfileStore;
+import me.help.minecraft_store.services.PlaceholderService;
+import me.help.minecraft_store.services.PlayerEventOutbox;
 import me.help.minecraft_store.services.PlayerProfileService; // NEW: Import PlayerProfileService
+import me.help.minecraft_store.services.ProfileStore;
+import me.help.minecraft_store.services.ReadinessService;
 
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
 import org.bukkit.scheduler.BukkitRunnable;
 
+import java.io.File;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 
-public final class AtlasCoreConnector extends JavaPlugin {
+public class AtlasCoreConnector extends JavaPlugin {
 
     private final Map<UUID, String> verificationCodes = new ConcurrentHashMap<>();
     private final AtomicInteger newPlayersToday = new AtomicInteger(0);
+    private final Map<UUID, Long> sessionStarts = new ConcurrentHashMap<>();
     private WebServer webServer;
     private PlayerProfileService playerProfileService; // NEW: Declare PlayerProfileService
+    private PlayerStatsCache playerStatsCache;
+    private PlaceholderService placeholderService;
+    private ReadinessService readinessService;
+    private PlayerEventOutbox playerEventOutbox;
+    private EventSenderTask eventSender;
+
+    public AtlasCoreConnector() {
+        super();
+    }
+
+    /**
+     * Used to run the plugin outside a real server, e.g. by the load-test harness.
+     */
+    protected AtlasCoreConnector(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+        super(loader, description, dataFolder, file);
+    }
 
     @Override
     public void onEnable() {
         saveDefaultConfig(); // Ensures config.yml is loaded
 
+        // Fail closed: writing the shared store without a serverId would let servers overwrite each other's profiles
+        if (!PlayerProfileService.hasValidNetworkConfig(this)) {
+            getLogger().severe("network.enabled is true but network.serverId is not set in config.yml. "
+                    + "Disabling AtlasCoreConnector until every server has its own unique serverId.");
+            getServer().getPluginManager().disablePlugin(this);
+            return;
+        }
+
         // NEW: Initialize PlayerProfileService
-        this.playerProfileService = new PlayerProfileService(this);
+        this.playerProfileService = new PlayerProfileService(this, createProfileStore());
+        this.placeholderService = createPlaceholderService();
 
-        // Schedule the web server to start after a delay
+        // Short-TTL cache of serialized /player-stats responses
+        this.playerStatsCache = new PlayerStatsCache(
+                getConfig().getLong("webhook.statsCache.ttlSeconds", 30) * 1000L,
+                getConfig().getInt("webhook.statsCache.maxEntries", 1000));
+
+        this.readinessService = new ReadinessService();
+
+        // Player events are only collected when there is somewhere to send them
+        String eventsUrl = getConfig().getString("events.url", "");
+        this.playerEventOutbox = new PlayerEventOutbox(eventsUrl == null || eventsUrl.isEmpty() ? 0 : getConfig().getInt("events.capacity", 10000));
+        this.webServer = new WebServer(this);
+
+        // Warm up all subsystems in parallel instead of waiting a fixed delay
+        warmUp();
+
+        // Start the web server right away, off the main thread. Each route refuses requests
+        // until the subsystems it depends on are ready, and /health reports progress meanwhile.
+        CompletableFuture<Void> webStarted = readinessService.track(ReadinessService.WEB, new CompletableFuture<>());
         new BukkitRunnable() {
             @Override
             public void run() {
-                // Initialize and start the web server
-                webServer = new WebServer(AtlasCoreConnector.this);
-                webServer.start();
+                if (webServer.start()) {
+                    webStarted.complete(null);
+                } else {
+                    webStarted.completeExceptionally(new IllegalStateException("Web server did not start."));
+                }
             }
-        }.runTaskLater(this, 200L); // 200 ticks = 10 seconds
+        }.runTaskAsynchronously(this);
 
         // Register listeners
         getServer().getPluginManager().registerEvents(new PlayerListener(this), this);
@@ -45,8 +103,53 @@ public final class AtlasCoreConnector extends JavaPlugin {
 
         // Schedule repeating tasks
         new StatsTask(this).runTaskTimerAsynchronously(this, 0, getConfig().getLong("stats.interval", 6000));
+        if (playerEventOutbox.isEnabled()) {
+            long flushInterval = getConfig().getLong("events.flushInterval", 100);
+            eventSender = new EventSenderTask(this, playerEventOutbox);
+            eventSender.runTaskTimerAsynchronously(this, flushInterval, flushInterval);
+        }
 
-        getLogger().info("AtlasCoreConnector has been enabled! Web server will start in 10 seconds.");
+        getLogger().info("AtlasCoreConnector has been enabled! Web server is starting.");
+    }
+
+    /**
+     * Kicks off the warmup of the profile store, serialization and the placeholder catalog.
+     */
+    private void warmUp() {
+        ProfileStore store = playerProfileService.getStore();
+        CompletableFuture<Void> profiles = readinessService.trackOptional(ReadinessService.PROFILES,
+                store.onReady().thenCompose(v -> store.warmup().exceptionally(ex -> {
+                    getLogger().log(Level.WARNING, "Profile store warmup failed. The first requests may be slower.", ex);
+                    return null;
+                })));
+
+        CompletableFuture<Void> serialization = readinessService.track(ReadinessService.SERIALIZATION,
+                CompletableFuture.runAsync(webServer::warmUp));
+
+        // The first tick only runs once every plugin has been enabled, so the catalog sees all of them
+        CompletableFuture<Void> firstTick = readinessService.track(ReadinessService.SERVER, new CompletableFuture<>());
+        CompletableFuture<Void> placeholders = readinessService.track(ReadinessService.PLACEHOLDERS, new CompletableFuture<>());
+        new BukkitRunnable() {
+            @Override
+            public void run() {
+                firstTick.complete(null);
+                try {
+                    placeholderService.warmUp();
+                    placeholders.complete(null);
+                } catch (Exception e) {
+                    placeholders.completeExceptionally(e);
+                }
+            }
+        }.runTask(this);
+
+        long startedAt = System.currentTimeMillis();
+        CompletableFuture.allOf(profiles, serialization, firstTick, placeholders).whenComplete((v, ex) -> {
+            if (ex == null) {
+                getLogger().info("All subsystems are ready after " + (System.currentTimeMillis() - startedAt) + " ms.");
+            } else {
+                getLogger().warning("Some subsystems failed to start. See /health for details.");
+            }
+        });
     }
 
     // NEW: Add onDisable to stop Spark cleanly
@@ -55,6 +158,13 @@ public final class AtlasCoreConnector extends JavaPlugin {
         if (webServer != null) {
             webServer.stop();
         }
+        if (eventSender != null) {
+            eventSender.cancel();
+            eventSender.spillRemaining();
+        }
+        if (playerProfileService != null) {
+            playerProfileService.shutdown();
+        }
         getLogger().info("AtlasCoreConnector has been disabled!");
     }
 
@@ -66,8 +176,65 @@ public final class AtlasCoreConnector extends JavaPlugin {
         return newPlayersToday;
     }
 
+    /**
+     * @return Join time of every online player, to report session lengths on quit.
+     */
+    public Map<UUID, Long> getSessionStarts() {
+        return sessionStarts;
+    }
+
+    public PlayerEventOutbox getPlayerEventOutbox() {
+        return playerEventOutbox;
+    }
+
     // NEW: Getter for PlayerProfileService
     public PlayerProfileService getPlayerProfileService() {
         return playerProfileService;
     }
+
+    public PlayerStatsCache getPlayerStatsCache() {
+        return playerStatsCache;
+    }
+
+    public PlaceholderService getPlaceholderService() {
+        return placeholderService;
+    }
+
+    public ReadinessService getReadinessService() {
+        return readinessService;
+    }
+
+    /**
+     * Picks the profile backend configured under storage.backend.
+     */
+    protected ProfileStore createProfileStore() {
+        String backend = getConfig().getString("storage.backend", "firestore");
+        if ("memory".equalsIgnoreCase(backend)) {
+            getLogger().warning("Using the in-memory profile store. Player profiles will not survive a restart.");
+            return new InMemoryProfileStore();
+        }
+        if ("firestore-rest".equalsIgnoreCase(backend)) {
+            return new FirestoreRestProfileStore(this);
+        }
+        return createFirestoreSdkStore();
+    }
+
+    /**
+     * Loads the client-library store by name, so lite builds without the Firestore SDK still start.
+     */
+    private ProfileStore createFirestoreSdkStore() {
+        try {
+            Class<?> storeClass = Class.forName("me.help.minecraft_store.services.FirestoreProfileStore");
+            return (ProfileStore) storeClass.getConstructor(AtlasCoreConnector.class).newInstance(this);
+        } catch (ClassNotFoundException | NoClassDefFoundError e) {
+            getLogger().warning("This build does not include the Firestore client library. Using storage.backend \"firestore-rest\" instead.");
+            return new FirestoreRestProfileStore(this);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create the Firestore profile store.", e);
+        }
+    }
+
+    protected PlaceholderService createPlaceholderService() {
+        return new PlaceholderService();
+    }
 }
@@ -0,0 +1,69 @@
+// src/main/java/me/help/minecraft_store/data/NodeStatsData.java
+package me.help.minecraft_store.data;
+
+/**
+ * Stats one server of the network last reported, kept in the shared store so every node can compute network totals.
+ */
+public class NodeStatsData {
+    private String serverId;
+    private int onlinePlayers;
+    private int maxPlayers;
+    private int newPlayers; // New players since the node's previous report
+    private long updatedAt;
+
+    public NodeStatsData() {
+        // Default constructor for Firebase deserialization
+    }
+
+    public NodeStatsData(String serverId, int onlinePlayers, int maxPlayers, int newPlayers, long updatedAt) {
+        this.serverId = serverId;
+        this.onlinePlayers = onlinePlayers;
+        this.maxPlayers = maxPlayers;
+        this.newPlayers = newPlayers;
+        this.updatedAt = updatedAt;
+    }
+
+    public NodeStatsData(NodeStatsData other) {
+        this(other.serverId, other.onlinePlayers, other.maxPlayers, other.newPlayers, other.updatedAt);
+    }
+
+    public String getServerId() {
+        return serverId;
+    }
+
+    public void setServerId(String serverId) {
+        this.serverId = serverId;
+    }
+
+    public int getOnlinePlayers() {
+        return onlinePlayers;
+    }
+
+    public void setOnlinePlayers(int onlinePlayers) {
+        this.onlinePlayers = onlinePlayers;
+    }
+
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    public void setMaxPlayers(int maxPlayers) {
+        this.maxPlayers = maxPlayers;
+    }
+
+    public int getNewPlayers() {
+        return newPlayers;
+    }
+
+    public void setNewPlayers(int newPlayers) {
+        this.newPlayers = newPlayers;
+    }
+
+    public long getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(long updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
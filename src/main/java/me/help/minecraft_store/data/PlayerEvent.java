@@ -0,0 +1,94 @@
+// src/main/java/me/help/minecraft_store/data/PlayerEvent.java
+package me.help.minecraft_store.data;
+
+import java.util.UUID;
+
+/**
+ * One player event as sent to the backend. Fields that do not apply to an event type are left null
+ * and omitted from the JSON.
+ */
+public class PlayerEvent {
+
+    public static final String JOIN = "join";
+    public static final String QUIT = "quit";
+    public static final String FIRST_JOIN = "first_join";
+    public static final String COMMAND = "command";
+
+    private long seq; // Assigned by the outbox, increasing per plugin start
+    private final String type;
+    private final long time;
+    private final String player;
+    private final String name;
+    private final Long sessionMillis; // quit only
+    private final String command; // command only
+    private final Boolean success; // command only
+
+    private PlayerEvent(String type, UUID player, String name, Long sessionMillis, String command, Boolean success) {
+        this.type = type;
+        this.time = System.currentTimeMillis();
+        this.player = player != null ? player.toString() : null;
+        this.name = name;
+        this.sessionMillis = sessionMillis;
+        this.command = command;
+        this.success = success;
+    }
+
+    public static PlayerEvent join(UUID player, String name) {
+        return new PlayerEvent(JOIN, player, name, null, null, null);
+    }
+
+    public static PlayerEvent firstJoin(UUID player, String name) {
+        return new PlayerEvent(FIRST_JOIN, player, name, null, null, null);
+    }
+
+    /**
+     * @param sessionMillis How long the player was online, or null if the join was not seen (e.g. after a reload).
+     */
+    public static PlayerEvent quit(UUID player, String name, Long sessionMillis) {
+        return new PlayerEvent(QUIT, player, name, sessionMillis, null, null);
+    }
+
+    /**
+     * A command dispatched through the web API, e.g. a store purchase.
+     * @param player The target player's UUID, or null if it is not known, e.g. because they are offline.
+     */
+    public static PlayerEvent command(UUID player, String name, String command, boolean success) {
+        return new PlayerEvent(COMMAND, player, name, null, command, success);
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Long getSessionMillis() {
+        return sessionMillis;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public Boolean getSuccess() {
+        return success;
+    }
+}
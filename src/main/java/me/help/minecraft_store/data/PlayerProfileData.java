@@ -10,6 +10,8 @@ public class PlayerProfileData {
     private String playerName;
     private Map<String, String> stats; // Stores skills, class, race etc.
     private long lastUpdated; // Timestamp of last update
+    private String serverId; // Network mode: server the stats were collected on
+    private String ownerServerId; // Network mode: server the player is on, the only one allowed to write
 
     public PlayerProfileData() {
         // Default constructor for Firebase deserialization
@@ -22,6 +24,15 @@ public class PlayerProfileData {
         this.lastUpdated = lastUpdated;
     }
 
+    public PlayerProfileData(PlayerProfileData other) {
+        this.uuid = other.uuid;
+        this.playerName = other.playerName;
+        this.stats = other.stats != null ? new HashMap<>(other.stats) : null;
+        this.lastUpdated = other.lastUpdated;
+        this.serverId = other.serverId;
+        this.ownerServerId = other.ownerServerId;
+    }
+
     public String getUuid() {
         return uuid;
     }
@@ -53,4 +64,20 @@ public class PlayerProfileData {
     public void setLastUpdated(long lastUpdated) {
         this.lastUpdated = lastUpdated;
     }
+
+    public String getServerId() {
+        return serverId;
+    }
+
+    public void setServerId(String serverId) {
+        this.serverId = serverId;
+    }
+
+    public String getOwnerServerId() {
+        return ownerServerId;
+    }
+
+    public void setOwnerServerId(String ownerServerId) {
+        this.ownerServerId = ownerServerId;
+    }
 }
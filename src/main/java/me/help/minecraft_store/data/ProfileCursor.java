@@ -0,0 +1,76 @@
+// src/main/java/me/help/minecraft_store/data/ProfileCursor.java
+package me.help.minecraft_store.data;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Position in the export order of profiles: ascending lastUpdated, then ascending UUID.
+ * Written as "lastUpdated:uuid", so a client can resume right after any profile it has received.
+ */
+public final class ProfileCursor {
+
+    /**
+     * The export order. Profiles without a UUID sort first.
+     */
+    public static final Comparator<PlayerProfileData> ORDER = Comparator
+            .comparingLong(PlayerProfileData::getLastUpdated)
+            .thenComparing(PlayerProfileData::getUuid, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final long lastUpdated;
+    private final String uuid;
+
+    public ProfileCursor(long lastUpdated, String uuid) {
+        this.lastUpdated = lastUpdated;
+        this.uuid = uuid;
+    }
+
+    /**
+     * @return The cursor that continues right after the given profile.
+     */
+    public static ProfileCursor after(PlayerProfileData profile) {
+        return new ProfileCursor(profile.getLastUpdated(), profile.getUuid());
+    }
+
+    /**
+     * @throws IllegalArgumentException If the value is not a cursor written by {@link #toString()}.
+     */
+    public static ProfileCursor parse(String value) {
+        int separator = value.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+        try {
+            long lastUpdated = Long.parseLong(value.substring(0, separator));
+            // Round-trip through UUID to reject anything that is not one, but keep the stored spelling
+            String uuid = value.substring(separator + 1);
+            UUID.fromString(uuid);
+            return new ProfileCursor(lastUpdated, uuid);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, e);
+        }
+    }
+
+    public long getLastUpdated() {
+        return lastUpdated;
+    }
+
+    public String getUuid() {
+        return uuid;
+    }
+
+    /**
+     * @return Whether the profile comes after this cursor in the export order.
+     */
+    public boolean isBefore(PlayerProfileData profile) {
+        if (profile.getLastUpdated() != lastUpdated) {
+            return profile.getLastUpdated() > lastUpdated;
+        }
+        return profile.getUuid() != null && profile.getUuid().compareTo(uuid) > 0;
+    }
+
+    @Override
+    public String toString() {
+        return lastUpdated + ":" + uuid;
+    }
+}
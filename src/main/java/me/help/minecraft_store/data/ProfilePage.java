@@ -0,0 +1,37 @@
+// src/main/java/me/help/minecraft_store/data/ProfilePage.java
+package me.help.minecraft_store.data;
+
+import java.util.List;
+
+/**
+ * One page of profiles in export order, see {@link ProfileCursor}.
+ */
+public class ProfilePage {
+
+    private final List<PlayerProfileData> profiles;
+    private final ProfileCursor nextCursor;
+
+    public ProfilePage(List<PlayerProfileData> profiles, ProfileCursor nextCursor) {
+        this.profiles = profiles;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a page from a query that asked for limit profiles. A full page may have more after it.
+     */
+    public static ProfilePage of(List<PlayerProfileData> profiles, int limit) {
+        boolean full = !profiles.isEmpty() && profiles.size() >= limit;
+        return new ProfilePage(profiles, full ? ProfileCursor.after(profiles.get(profiles.size() - 1)) : null);
+    }
+
+    public List<PlayerProfileData> getProfiles() {
+        return profiles;
+    }
+
+    /**
+     * @return Where the next page starts, or null if this is the last page.
+     */
+    public ProfileCursor getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,27 @@
+// src/main/java/me/help/minecraft_store/jfr/CommandDispatchEvent.java
+package me.help.minecraft_store.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One console command dispatched for the web store. The payload size is the command line.
+ */
+@Name("me.help.minecraft_store.CommandDispatch")
+@Label("Command Dispatch")
+public class CommandDispatchEvent extends ConnectorEvent {
+
+    @Label("Command")
+    String command;
+
+    @Label("Success")
+    boolean success;
+
+    public void setCommand(String command) {
+        this.command = command;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
@@ -0,0 +1,85 @@
+// src/main/java/me/help/minecraft_store/jfr/ConnectorEvent.java
+package me.help.minecraft_store.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Base of the Java Flight Recorder events the plugin emits. They are recorded whenever a recording is running,
+ * e.g. with {@code -XX:StartFlightRecording}, and show up under "AtlasCoreConnector" in JMC next to GC and
+ * tick events. Without a recording, begin/commit are no-ops and the only cost is the event allocation.
+ */
+@Category("AtlasCoreConnector")
+@StackTrace(false)
+public abstract class ConnectorEvent extends Event {
+
+    @Label("Player")
+    @Description("UUID of the player the operation is for")
+    String player;
+
+    @Label("Route")
+    @Description("HTTP route or target the operation belongs to")
+    String route;
+
+    @Label("Payload Size")
+    @Description("Size of the data produced or sent by the operation")
+    @DataAmount
+    long payloadSize;
+
+    public void setPlayer(UUID player) {
+        this.player = player != null ? player.toString() : null;
+    }
+
+    public void setRoute(String route) {
+        this.route = route;
+    }
+
+    public void setPayloadSize(long payloadSize) {
+        this.payloadSize = payloadSize;
+    }
+
+    /**
+     * UTF-8 size of a string without encoding it.
+     */
+    public static long utf8Length(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * UTF-8 size of all keys and values, a cheap stand-in for the serialized size of a stats map.
+     */
+    public static long utf8Length(Map<String, String> stats) {
+        if (stats == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (Map.Entry<String, String> entry : stats.entrySet()) {
+            bytes += utf8Length(entry.getKey()) + utf8Length(entry.getValue());
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,37 @@
+// src/main/java/me/help/minecraft_store/jfr/HttpRequestEvent.java
+package me.help.minecraft_store.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One request to the internal web server, from the first filter until the response is complete.
+ * The payload size is the response body.
+ */
+@Name("me.help.minecraft_store.HttpRequest")
+@Label("HTTP Request")
+public class HttpRequestEvent extends ConnectorEvent {
+
+    @Label("Method")
+    String method;
+
+    @Label("Status")
+    int status;
+
+    @Label("Request Size")
+    @DataAmount
+    long requestSize;
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public void setRequestSize(long requestSize) {
+        this.requestSize = requestSize;
+    }
+}
@@ -0,0 +1,51 @@
+// src/main/java/me/help/minecraft_store/jfr/MainThreadHopEvent.java
+package me.help.minecraft_store.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import java.util.UUID;
+
+/**
+ * Work handed from a web thread to the server thread, from scheduling until the task finished.
+ * The queue time is how long the task waited for a tick; the rest of the duration ran on the main thread.
+ */
+@Name("me.help.minecraft_store.MainThreadHop")
+@Label("Main Thread Hop")
+public class MainThreadHopEvent extends ConnectorEvent {
+
+    @Label("Queue Time")
+    @Description("Time between scheduling the task and the main thread picking it up")
+    @Timespan
+    long queueTime;
+
+    private transient long scheduledAt;
+
+    /**
+     * Starts timing a hop. Call right before scheduling the task.
+     */
+    public static MainThreadHopEvent schedule(String route, UUID player) {
+        MainThreadHopEvent event = new MainThreadHopEvent();
+        event.setRoute(route);
+        event.setPlayer(player);
+        event.begin();
+        event.scheduledAt = System.nanoTime();
+        return event;
+    }
+
+    /**
+     * Call first thing in the task.
+     */
+    public void started() {
+        queueTime = System.nanoTime() - scheduledAt;
+    }
+
+    /**
+     * Call last thing in the task.
+     */
+    public void finished() {
+        commit();
+    }
+}
@@ -0,0 +1,27 @@
+// src/main/java/me/help/minecraft_store/jfr/PlaceholderBatchEvent.java
+package me.help.minecraft_store.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One batch of placeholders resolved through PlaceholderAPI. The payload size is the resolved values.
+ */
+@Name("me.help.minecraft_store.PlaceholderBatch")
+@Label("PlaceholderAPI Batch")
+public class PlaceholderBatchEvent extends ConnectorEvent {
+
+    @Label("Placeholders")
+    int placeholders;
+
+    @Label("Resolved")
+    int resolved;
+
+    public void setPlaceholders(int placeholders) {
+        this.placeholders = placeholders;
+    }
+
+    public void setResolved(int resolved) {
+        this.resolved = resolved;
+    }
+}
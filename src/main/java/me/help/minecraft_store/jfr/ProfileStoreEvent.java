@@ -0,0 +1,52 @@
+// src/main/java/me/help/minecraft_store/jfr/ProfileStoreEvent.java
+package me.help.minecraft_store.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One profile load, claim or save against the profile store (Firestore, the REST store or memory), from the
+ * call until the returned future completed. The payload size is the profile's stats.
+ */
+@Name("me.help.minecraft_store.ProfileStore")
+@Label("Profile Store Operation")
+public class ProfileStoreEvent extends ConnectorEvent {
+
+    public static final String LOAD = "load";
+    public static final String CLAIM = "claim";
+    public static final String SAVE = "save";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Backend")
+    String backend;
+
+    @Label("Success")
+    @Description("Whether the call completed without an error")
+    boolean success;
+
+    @Label("Written")
+    @Description("For conditional saves, whether the store accepted the write")
+    boolean written;
+
+    /**
+     * Starts timing an operation of the given store.
+     */
+    public static ProfileStoreEvent start(String operation, Object store) {
+        ProfileStoreEvent event = new ProfileStoreEvent();
+        event.operation = operation;
+        event.backend = store.getClass().getSimpleName();
+        event.begin();
+        return event;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public void setWritten(boolean written) {
+        this.written = written;
+    }
+}
@@ -0,0 +1,27 @@
+// src/main/java/me/help/minecraft_store/jfr/StatsSendEvent.java
+package me.help.minecraft_store.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One run of the server stats report, including the network aggregation. The payload size is the request body.
+ */
+@Name("me.help.minecraft_store.StatsSend")
+@Label("Stats Send")
+public class StatsSendEvent extends ConnectorEvent {
+
+    @Label("Status")
+    int status;
+
+    @Label("Success")
+    boolean success;
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
@@ -1,10 +1,14 @@
 package me.help.minecraft_store.listeners;
 
 import me.help.minecraft_store.AtlasCoreConnector;
+import me.help.minecraft_store.data.PlayerEvent;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 
+import java.util.logging.Level;
+
 public class PlayerListener implements Listener {
 
     private final AtlasCoreConnector plugin;
@@ -15,8 +19,31 @@ public class PlayerListener implements Listener {
 
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        if (!event.getPlayer().hasPlayedBefore()) {
-            plugin.getNewPlayersToday().incrementAndGet();
+        Player player = event.getPlayer();
+        plugin.getSessionStarts().put(player.getUniqueId(), System.currentTimeMillis());
+        plugin.getPlayerEventOutbox().append(PlayerEvent.join(player.getUniqueId(), player.getName()));
+
+        if (!plugin.getPlayerProfileService().isNetworkMode()) {
+            if (!player.hasPlayedBefore()) {
+                recordFirstJoin(player);
+            }
+            return;
         }
+
+        // In a network players move between servers, so only a player without a profile anywhere is new.
+        // Claiming the profile also stops the server they came from overwriting it with an older quit-time save.
+        plugin.getPlayerProfileService().claimPlayerProfile(player.getUniqueId(), player.getName()).thenAccept(firstJoin -> {
+            if (firstJoin) {
+                recordFirstJoin(player);
+            }
+        }).exceptionally(ex -> {
+            plugin.getLogger().log(Level.WARNING, "Could not claim the profile of " + player.getName() + ".", ex);
+            return null;
+        });
+    }
+
+    private void recordFirstJoin(Player player) {
+        plugin.getNewPlayersToday().incrementAndGet();
+        plugin.getPlayerEventOutbox().append(PlayerEvent.firstJoin(player.getUniqueId(), player.getName()));
     }
 }
@@ -1,8 +1,8 @@
 // src/main/java/me/help/minecraft_store/listeners/PlayerQuitListener.java
 package me.help.minecraft_store.listeners;
 
-import me.clip.placeholderapi.PlaceholderAPI;
 import me.help.minecraft_store.AtlasCoreConnector;
+import me.help.minecraft_store.data.PlayerEvent;
 import me.help.minecraft_store.data.PlayerProfileData;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -10,7 +10,9 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.scheduler.BukkitRunnable;
 
-import java.util.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 import java.util.logging.Level;
 
 public class PlayerQuitListener implements Listener {
@@ -31,6 +33,10 @@ public class PlayerQuitListener implements Listener {
         Player player = event.getPlayer();
         UUID playerUUID = player.getUniqueId();
 
+        Long joinedAt = plugin.getSessionStarts().remove(playerUUID);
+        Long sessionMillis = joinedAt != null ? System.currentTimeMillis() - joinedAt : null;
+        plugin.getPlayerEventOutbox().append(PlayerEvent.quit(playerUUID, player.getName(), sessionMillis));
+
         // Wait for the PlayerProfileService to signal it's ready before proceeding.
         // This prevents errors if a player quits before Firebase has initialized.
         plugin.getPlayerProfileService().onReady().thenRun(() -> {
@@ -53,51 +59,11 @@ public class PlayerQuitListener implements Listener {
                             stats.putAll(existingProfile.getStats()); // Populate with existing stats
                         }
 
-                        List<String> placeholdersToParse = new ArrayList<>();
-
                         // Always save the player's current name.
                         stats.put("player_name", player.getName());
 
-                        // Collect Fabled stats if the plugin is enabled.
-                        if (plugin.getServer().getPluginManager().isPluginEnabled("Fabled")) {
-                            placeholdersToParse.addAll(Arrays.asList(
-                                    "%fabled_player_class_mainclass%", "%fabled_default_currentlevel%", "%fabled_player_races_class%",
-                                    "%fabled_health%", "%fabled_max_health%", "%fabled_mana%", "%fabled_max_mana%"
-                            ));
-                        }
-                        // Collect AuraSkills stats if the plugin is enabled.
-                        if (plugin.getServer().getPluginManager().isPluginEnabled("AuraSkills")) {
-                            placeholdersToParse.addAll(Arrays.asList(
-                                    "%auraskills_power%", "%auraskills_farming%", "%auraskills_foraging%",
-                                    "%auraskills_mining%", "%auraskills_fishing%", "%auraskills_excavation%",
-                                    "%auraskills_archery%", "%auraskills_defense%", "%auraskills_fighting%",
-                                    "%auraskills_endurance%", "%auraskills_agility%", "%auraskills_alchemy%",
-                                    "%auraskills_enchanting%", "%auraskills_sorcery%", "%auraskills_healing%",
-                                    "%auraskills_forging%"
-                            ));
-                        }
-                        // ADDED: Include general statistics that were in WebServer's getPlaceholders but missing here
-                        placeholdersToParse.add("%statistic_player_kills%");
-                        placeholdersToParse.add("%statistic_deaths%");
-                        // ADDED: Include vault_eco_balance if Vault is enabled
-                        if (plugin.getServer().getPluginManager().isPluginEnabled("Vault")) {
-                            placeholdersToParse.add("%vault_eco_balance%");
-                        }
-
-
-                        // Parse all collected placeholders using PlaceholderAPI.
-                        for (String placeholder : placeholdersToParse) {
-                            String value = PlaceholderAPI.setPlaceholders(player, placeholder);
-                            String key = placeholder.replace("%", "").toLowerCase();
-                            // Only save if the placeholder returned a meaningful value, it's not the placeholder itself, AND it's not empty
-                            if (!value.equals(placeholder) && !value.isEmpty()) { // <--- MODIFIED LINE
-                                if (key.equals("vault_eco_balance")) {
-                                    stats.put(key, value.replace(",", ""));
-                                } else {
-                                    stats.put(key, value);
-                                }
-                            }
-                        }
+                        // Collect Fabled, AuraSkills, statistic and Vault placeholders in one batch.
+                        stats.putAll(plugin.getPlaceholderService().resolveStats(player));
 
                         // Create a new data object with the collected stats.
                         // This will overwrite old stats with newer/merged data.
@@ -108,8 +74,8 @@ public class PlayerQuitListener implements Listener {
                                 System.currentTimeMillis()
                         );
 
-                        // Save the profile data using the service.
-                        plugin.getPlayerProfileService().savePlayerProfile(profileData);
+                        // Save the profile data using the service, handing the profile back to the network.
+                        plugin.getPlayerProfileService().savePlayerProfile(profileData, true);
 
                     } catch (Exception e) {
                         plugin.getLogger().log(Level.SEVERE, "Error saving player data for " + player.getName() + " on quit.", e);
@@ -0,0 +1,212 @@
+// src/main/java/me/help/minecraft_store/services/FirestoreProfileStore.java
+package me.help.minecraft_store.services;
+
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FirestoreOptions;
+import com.google.cloud.firestore.Query;
+import me.help.minecraft_store.AtlasCoreConnector;
+import me.help.minecraft_store.data.NodeStatsData;
+import me.help.minecraft_store.data.PlayerProfileData;
+import me.help.minecraft_store.data.ProfileCursor;
+import me.help.minecraft_store.data.ProfilePage;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+/**
+ * Profile store backed by the Google Cloud Firestore client library.
+ */
+public class FirestoreProfileStore implements ProfileStore {
+
+    private static final String COLLECTION = "player_profiles";
+    private static final String NODES_COLLECTION = "network_nodes";
+    // Any ordinary id works; Firestore rejects reserved ids of the form __name__
+    private static final String WARMUP_DOCUMENT = "warmup-probe";
+
+    private final AtlasCoreConnector plugin;
+    private Firestore db;
+    private final CompletableFuture<Void> initializationFuture = new CompletableFuture<>();
+
+    public FirestoreProfileStore(AtlasCoreConnector plugin) {
+        this.plugin = plugin;
+        initializeFirebase();
+    }
+
+    private void initializeFirebase() {
+        new BukkitRunnable() {
+            @Override
+            public void run() {
+                try {
+                    String emulatorHost = plugin.getConfig().getString("firebase.emulatorHost", "");
+                    if (!emulatorHost.isEmpty()) {
+                        String projectId = plugin.getConfig().getString("firebase.projectId", "");
+                        if (projectId.isEmpty()) {
+                            throw new IOException("Firebase projectId must be set when using the emulator.");
+                        }
+                        db = FirestoreOptions.newBuilder()
+                                .setProjectId(projectId)
+                                .setEmulatorHost(emulatorHost)
+                                .build()
+                                .getService();
+                        plugin.getLogger().info("Firestore initialized against the emulator at " + emulatorHost + ".");
+                        initializationFuture.complete(null);
+                        return;
+                    }
+
+                    String serviceAccountFileName = plugin.getConfig().getString("firebase.serviceAccountKeyPath");
+                    if (serviceAccountFileName == null || serviceAccountFileName.isEmpty()) {
+                        plugin.getLogger().severe("Firebase serviceAccountKeyPath is not set in config.yml.");
+                        initializationFuture.completeExceptionally(new IOException("Firebase serviceAccountKeyPath is not set."));
+                        return;
+                    }
+
+                    File serviceAccountFile = new File(plugin.getDataFolder(), serviceAccountFileName);
+                    if (!serviceAccountFile.exists()) {
+                        throw new IOException("Firebase service account key file not found at: " + serviceAccountFile.getAbsolutePath());
+                    }
+
+                    FileInputStream serviceAccountStream = new FileInputStream(serviceAccountFile);
+                    GoogleCredentials credentials = GoogleCredentials.fromStream(serviceAccountStream);
+
+                    // Modern way to initialize Firestore
+                    FirestoreOptions firestoreOptions = FirestoreOptions.newBuilder()
+                            .setCredentials(credentials)
+                            .build();
+                    db = firestoreOptions.getService();
+
+                    plugin.getLogger().info("Firestore initialized successfully.");
+                    initializationFuture.complete(null);
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.SEVERE, "Failed to initialize Firestore.", e);
+                    initializationFuture.completeExceptionally(e);
+                }
+            }
+        }.runTaskAsynchronously(plugin);
+    }
+
+    @Override
+    public CompletableFuture<Void> onReady() {
+        return initializationFuture;
+    }
+
+    @Override
+    public CompletableFuture<PlayerProfileData> load(UUID uuid) {
+        return onReady().thenApplyAsync(v -> {
+            try {
+                DocumentReference docRef = db.collection(COLLECTION).document(uuid.toString());
+                return docRef.get().get().toObject(PlayerProfileData.class);
+            } catch (InterruptedException | ExecutionException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to load player profile for " + uuid, e);
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> save(PlayerProfileData profile) {
+        return onReady().thenRunAsync(() -> {
+            try {
+                DocumentReference docRef = db.collection(COLLECTION).document(profile.getUuid());
+                docRef.set(profile).get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveIf(PlayerProfileData profile, Predicate<PlayerProfileData> condition) {
+        return onReady().thenApplyAsync(v -> {
+            try {
+                DocumentReference docRef = db.collection(COLLECTION).document(profile.getUuid());
+                // The client library retries the transaction if the document changes before it commits
+                return db.runTransaction(transaction -> {
+                    PlayerProfileData current = transaction.get(docRef).get().toObject(PlayerProfileData.class);
+                    if (!condition.test(current)) {
+                        return false;
+                    }
+                    transaction.set(docRef, profile);
+                    return true;
+                }).get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<ProfilePage> loadPage(ProfileCursor after, long since, int limit) {
+        return onReady().thenApplyAsync(v -> {
+            try {
+                // Served by the automatic single-field index on lastUpdated, no composite index needed
+                Query query = db.collection(COLLECTION)
+                        .whereGreaterThanOrEqualTo("lastUpdated", since)
+                        .orderBy("lastUpdated")
+                        .orderBy(FieldPath.documentId())
+                        .limit(limit);
+                if (after != null) {
+                    query = query.startAfter(after.getLastUpdated(), after.getUuid());
+                }
+                return ProfilePage.of(query.get().get().toObjects(PlayerProfileData.class), limit);
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> saveNodeStats(NodeStatsData stats) {
+        return onReady().thenRunAsync(() -> {
+            try {
+                db.collection(NODES_COLLECTION).document(stats.getServerId()).set(stats).get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<NodeStatsData>> loadNodeStats() {
+        return onReady().thenApplyAsync(v -> {
+            try {
+                return db.collection(NODES_COLLECTION).get().get().toObjects(NodeStatsData.class);
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> warmup() {
+        // Reading a document that does not exist still sets up the gRPC channel and fetches an access token
+        return onReady().thenRunAsync(() -> {
+            try {
+                db.collection(COLLECTION).document(WARMUP_DOCUMENT).get().get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        if (db != null) {
+            try {
+                db.close();
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to close Firestore client.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,297 @@
+// src/main/java/me/help/minecraft_store/services/FirestoreRestProfileStore.java
+package me.help.minecraft_store.services;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import me.help.minecraft_store.AtlasCoreConnector;
+import me.help.minecraft_store.data.NodeStatsData;
+import me.help.minecraft_store.data.PlayerProfileData;
+import me.help.minecraft_store.data.ProfileCursor;
+import me.help.minecraft_store.data.ProfilePage;
+import me.help.minecraft_store.services.firestore.FirestoreDocuments;
+import me.help.minecraft_store.services.firestore.FirestoreRestClient;
+import me.help.minecraft_store.services.firestore.FirestoreRestException;
+import me.help.minecraft_store.services.firestore.ServiceAccountTokenProvider;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+/**
+ * Profile store that talks to Firestore's REST API over HTTP/2 instead of using the client library.
+ * Loads that arrive within a short window are coalesced into a single batchGet request.
+ */
+public class FirestoreRestProfileStore implements ProfileStore {
+
+    private static final String COLLECTION = "player_profiles";
+    private static final String NODES_COLLECTION = "network_nodes";
+    // Any ordinary id works; Firestore rejects reserved ids of the form __name__
+    private static final String WARMUP_DOCUMENT = "warmup-probe";
+    private static final int MAX_CONDITIONAL_ATTEMPTS = 5;
+    // batchGet accepts more, but large batches only delay the first caller
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final AtlasCoreConnector plugin;
+    private final CompletableFuture<Void> initializationFuture = new CompletableFuture<>();
+    private final Object batchLock = new Object();
+    private volatile FirestoreRestClient client;
+    private long batchWindowMillis;
+    private Map<String, CompletableFuture<PlayerProfileData>> pendingLoads = new HashMap<>();
+
+    public FirestoreRestProfileStore(AtlasCoreConnector plugin) {
+        this.plugin = plugin;
+        initializeClient();
+    }
+
+    private void initializeClient() {
+        new BukkitRunnable() {
+            @Override
+            public void run() {
+                try {
+                    FileConfiguration config = plugin.getConfig();
+                    Duration requestTimeout = Duration.ofMillis(config.getLong("firebase.rest.requestTimeoutMillis", 10000));
+                    batchWindowMillis = config.getLong("firebase.rest.batchWindowMillis", 2);
+
+                    HttpClient httpClient = HttpClient.newBuilder()
+                            .version(HttpClient.Version.HTTP_2)
+                            .connectTimeout(requestTimeout)
+                            .build();
+
+                    ServiceAccountTokenProvider tokenProvider = null;
+                    if (!config.getBoolean("firebase.rest.emulator", false)) {
+                        String serviceAccountFileName = config.getString("firebase.serviceAccountKeyPath");
+                        if (serviceAccountFileName == null || serviceAccountFileName.isEmpty()) {
+                            throw new IOException("Firebase serviceAccountKeyPath is not set.");
+                        }
+                        File serviceAccountFile = new File(plugin.getDataFolder(), serviceAccountFileName);
+                        if (!serviceAccountFile.exists()) {
+                            throw new IOException("Firebase service account key file not found at: " + serviceAccountFile.getAbsolutePath());
+                        }
+                        tokenProvider = ServiceAccountTokenProvider.fromFile(serviceAccountFile, httpClient);
+                    }
+
+                    String projectId = config.getString("firebase.projectId", "");
+                    if (projectId.isEmpty() && tokenProvider != null) {
+                        projectId = tokenProvider.getProjectId();
+                    }
+                    if (projectId == null || projectId.isEmpty()) {
+                        throw new IOException("Firebase projectId is not set and the service account key does not name one.");
+                    }
+
+                    client = new FirestoreRestClient(httpClient,
+                            config.getString("firebase.rest.baseUrl", "https://firestore.googleapis.com/v1"),
+                            projectId, tokenProvider, requestTimeout);
+
+                    plugin.getLogger().info("Firestore REST client initialized successfully.");
+                    initializationFuture.complete(null);
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.SEVERE, "Failed to initialize the Firestore REST client.", e);
+                    initializationFuture.completeExceptionally(e);
+                }
+            }
+        }.runTaskAsynchronously(plugin);
+    }
+
+    @Override
+    public CompletableFuture<Void> onReady() {
+        return initializationFuture;
+    }
+
+    @Override
+    public CompletableFuture<PlayerProfileData> load(UUID uuid) {
+        return onReady().thenCompose(v -> enqueueLoad(uuid.toString())).whenComplete((profile, ex) -> {
+            if (ex != null) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to load player profile for " + uuid, ex);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> save(PlayerProfileData profile) {
+        return onReady().thenCompose(v -> {
+            String name = client.documentName(COLLECTION, profile.getUuid());
+            return client.commit(Collections.singletonList(client.updateWrite(name, FirestoreDocuments.encodeProfile(profile))));
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveIf(PlayerProfileData profile, Predicate<PlayerProfileData> condition) {
+        return onReady().thenCompose(v -> saveIf(profile, condition, 1));
+    }
+
+    /**
+     * Reads the current document, checks it and writes with an updateTime precondition, so a concurrent write
+     * between the read and the commit makes the commit fail instead of being overwritten. Then it starts over.
+     * An existing document is patched with only the fields that changed, so an ownership claim sends just
+     * ownerServerId and a quit-time release without new stats leaves the stats map out.
+     */
+    private CompletableFuture<Boolean> saveIf(PlayerProfileData profile, Predicate<PlayerProfileData> condition, int attempt) {
+        String name = client.documentName(COLLECTION, profile.getUuid());
+        return client.batchGet(Collections.singletonList(name)).thenCompose(found -> {
+            JsonObject current = found.get(name);
+            if (!condition.test(current != null ? FirestoreDocuments.decodeProfile(current) : null)) {
+                return CompletableFuture.completedFuture(false);
+            }
+            JsonObject fields = FirestoreDocuments.encodeProfile(profile);
+            if (current == null) {
+                JsonObject write = client.updateWrite(name, fields, null);
+                return client.commit(Collections.singletonList(write)).thenApply(committed -> true);
+            }
+            JsonObject changed = changedFields(current, fields);
+            if (changed.size() == 0) {
+                return CompletableFuture.completedFuture(true);
+            }
+            return client.patch(name, changed, changed.keySet(), current).thenApply(patched -> true);
+        }).exceptionallyCompose(ex -> {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof FirestoreRestException && ((FirestoreRestException) cause).isPreconditionFailure()
+                    && attempt < MAX_CONDITIONAL_ATTEMPTS) {
+                return saveIf(profile, condition, attempt + 1);
+            }
+            return CompletableFuture.failedFuture(cause);
+        });
+    }
+
+    private static JsonObject changedFields(JsonObject document, JsonObject fields) {
+        JsonObject stored = document.has("fields") ? document.getAsJsonObject("fields") : new JsonObject();
+        JsonObject changed = new JsonObject();
+        fields.entrySet().forEach(field -> {
+            if (!field.getValue().equals(stored.get(field.getKey()))) {
+                changed.add(field.getKey(), field.getValue());
+            }
+        });
+        return changed;
+    }
+
+    @Override
+    public CompletableFuture<ProfilePage> loadPage(ProfileCursor after, long since, int limit) {
+        return onReady().thenCompose(v -> client.runQuery(profilePageQuery(after, since, limit)))
+                .thenApply(documents -> ProfilePage.of(
+                        documents.stream().map(FirestoreDocuments::decodeProfile).collect(Collectors.toList()), limit));
+    }
+
+    /**
+     * Profiles with lastUpdated >= since in export order, starting after the cursor. Ordering by the document name
+     * as well keeps the order total, and the automatic single-field index on lastUpdated serves the query.
+     */
+    private JsonObject profilePageQuery(ProfileCursor after, long since, int limit) {
+        JsonObject collection = new JsonObject();
+        collection.addProperty("collectionId", COLLECTION);
+        JsonArray from = new JsonArray();
+        from.add(collection);
+
+        JsonObject fieldFilter = new JsonObject();
+        fieldFilter.add("field", FirestoreDocuments.fieldReference("lastUpdated"));
+        fieldFilter.addProperty("op", "GREATER_THAN_OR_EQUAL");
+        fieldFilter.add("value", FirestoreDocuments.integerValue(since));
+        JsonObject where = new JsonObject();
+        where.add("fieldFilter", fieldFilter);
+
+        JsonArray orderBy = new JsonArray();
+        for (String fieldPath : new String[]{"lastUpdated", "__name__"}) {
+            JsonObject order = new JsonObject();
+            order.add("field", FirestoreDocuments.fieldReference(fieldPath));
+            order.addProperty("direction", "ASCENDING");
+            orderBy.add(order);
+        }
+
+        JsonObject query = new JsonObject();
+        query.add("from", from);
+        query.add("where", where);
+        query.add("orderBy", orderBy);
+        if (after != null) {
+            JsonArray values = new JsonArray();
+            values.add(FirestoreDocuments.integerValue(after.getLastUpdated()));
+            values.add(FirestoreDocuments.referenceValue(client.documentName(COLLECTION, after.getUuid())));
+            JsonObject startAt = new JsonObject();
+            startAt.add("values", values);
+            startAt.addProperty("before", false);
+            query.add("startAt", startAt);
+        }
+        query.addProperty("limit", limit);
+        return query;
+    }
+
+    @Override
+    public CompletableFuture<Void> saveNodeStats(NodeStatsData stats) {
+        return onReady().thenCompose(v -> {
+            String name = client.documentName(NODES_COLLECTION, stats.getServerId());
+            return client.commit(Collections.singletonList(client.updateWrite(name, FirestoreDocuments.encodeNodeStats(stats))));
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<NodeStatsData>> loadNodeStats() {
+        return onReady().thenCompose(v -> client.listDocuments(NODES_COLLECTION))
+                .thenApply(documents -> documents.stream().map(FirestoreDocuments::decodeNodeStats).collect(Collectors.toList()));
+    }
+
+    @Override
+    public CompletableFuture<Void> warmup() {
+        // Fetches the first access token and opens the HTTP/2 connection that later requests share
+        return onReady().thenCompose(v -> client.batchGet(Collections.singletonList(client.documentName(COLLECTION, WARMUP_DOCUMENT))))
+                .thenApply(found -> null);
+    }
+
+    private CompletableFuture<PlayerProfileData> enqueueLoad(String documentId) {
+        CompletableFuture<PlayerProfileData> future;
+        boolean flushNow = false;
+        synchronized (batchLock) {
+            future = pendingLoads.get(documentId);
+            if (future != null) {
+                // Already part of the next batch
+                return future.thenApply(profile -> profile != null ? new PlayerProfileData(profile) : null);
+            }
+            future = new CompletableFuture<>();
+            pendingLoads.put(documentId, future);
+            if (batchWindowMillis <= 0 || pendingLoads.size() >= MAX_BATCH_SIZE) {
+                flushNow = true;
+            } else if (pendingLoads.size() == 1) {
+                CompletableFuture.delayedExecutor(batchWindowMillis, TimeUnit.MILLISECONDS).execute(this::flushLoads);
+            }
+        }
+        if (flushNow) {
+            flushLoads();
+        }
+        return future;
+    }
+
+    private void flushLoads() {
+        Map<String, CompletableFuture<PlayerProfileData>> batch;
+        synchronized (batchLock) {
+            if (pendingLoads.isEmpty()) {
+                return;
+            }
+            batch = pendingLoads;
+            pendingLoads = new HashMap<>();
+        }
+
+        Map<String, String> idsByName = new HashMap<>();
+        batch.keySet().forEach(id -> idsByName.put(client.documentName(COLLECTION, id), id));
+        client.batchGet(new ArrayList<>(idsByName.keySet())).whenComplete((found, ex) -> {
+            if (ex != null) {
+                batch.values().forEach(future -> future.completeExceptionally(ex));
+                return;
+            }
+            idsByName.forEach((name, id) -> {
+                JsonObject document = found.get(name);
+                batch.get(id).complete(document != null ? FirestoreDocuments.decodeProfile(document) : null);
+            });
+        });
+    }
+}
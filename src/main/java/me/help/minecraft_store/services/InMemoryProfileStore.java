@@ -0,0 +1,89 @@
+// src/main/java/me/help/minecraft_store/services/InMemoryProfileStore.java
+package me.help.minecraft_store.services;
+
+import me.help.minecraft_store.data.NodeStatsData;
+import me.help.minecraft_store.data.PlayerProfileData;
+import me.help.minecraft_store.data.ProfileCursor;
+import me.help.minecraft_store.data.ProfilePage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Profile store that keeps everything in memory. Profiles are lost on restart, so this is only meant for
+ * development servers and the load-test harness.
+ */
+public class InMemoryProfileStore implements ProfileStore {
+
+    private final Map<String, PlayerProfileData> profiles = new ConcurrentHashMap<>();
+    private final Map<String, NodeStatsData> nodeStats = new ConcurrentHashMap<>();
+
+    @Override
+    public CompletableFuture<Void> onReady() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<PlayerProfileData> load(UUID uuid) {
+        return CompletableFuture.completedFuture(copyOf(profiles.get(uuid.toString())));
+    }
+
+    @Override
+    public CompletableFuture<Void> save(PlayerProfileData profile) {
+        profiles.put(profile.getUuid(), copyOf(profile));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveIf(PlayerProfileData profile, Predicate<PlayerProfileData> condition) {
+        boolean[] written = new boolean[1];
+        // compute() holds the entry's lock, so no other write can slip in between the check and the write
+        profiles.compute(profile.getUuid(), (uuid, current) -> {
+            if (!condition.test(copyOf(current))) {
+                return current;
+            }
+            written[0] = true;
+            return copyOf(profile);
+        });
+        return CompletableFuture.completedFuture(written[0]);
+    }
+
+    @Override
+    public CompletableFuture<ProfilePage> loadPage(ProfileCursor after, long since, int limit) {
+        List<PlayerProfileData> page = profiles.values().stream()
+                .filter(profile -> profile.getLastUpdated() >= since && (after == null || after.isBefore(profile)))
+                .sorted(ProfileCursor.ORDER)
+                .limit(limit)
+                .map(InMemoryProfileStore::copyOf)
+                .collect(Collectors.toList());
+        return CompletableFuture.completedFuture(ProfilePage.of(page, limit));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveNodeStats(NodeStatsData stats) {
+        nodeStats.put(stats.getServerId(), new NodeStatsData(stats));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<List<NodeStatsData>> loadNodeStats() {
+        List<NodeStatsData> result = new ArrayList<>();
+        nodeStats.values().forEach(stats -> result.add(new NodeStatsData(stats)));
+        return CompletableFuture.completedFuture(result);
+    }
+
+    public int size() {
+        return profiles.size();
+    }
+
+    // Callers must never share a mutable instance with the store, just like with a real database
+    private static PlayerProfileData copyOf(PlayerProfileData profile) {
+        return profile != null ? new PlayerProfileData(profile) : null;
+    }
+}
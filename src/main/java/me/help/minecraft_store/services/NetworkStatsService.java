@@ -0,0 +1,69 @@
+// src/main/java/me/help/minecraft_store/services/NetworkStatsService.java
+package me.help.minecraft_store.services;
+
+import me.help.minecraft_store.data.NodeStatsData;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Network mode: publishes this server's stats to the shared store and adds up the stats of all live servers.
+ */
+public class NetworkStatsService {
+
+    private final ProfileStore store;
+    private final String serverId;
+    private final long staleAfterMillis;
+
+    /**
+     * @param staleAfterMillis Servers that have not reported for this long are left out of the totals.
+     */
+    public NetworkStatsService(ProfileStore store, String serverId, long staleAfterMillis) {
+        this.store = store;
+        this.serverId = serverId;
+        this.staleAfterMillis = staleAfterMillis;
+    }
+
+    /**
+     * Publishes this server's numbers, then reads back every server's latest report.
+     * @return Network totals, see {@link #aggregate}.
+     */
+    public CompletableFuture<Map<String, Object>> report(int onlinePlayers, int maxPlayers, int newPlayers) {
+        long now = System.currentTimeMillis();
+        NodeStatsData local = new NodeStatsData(serverId, onlinePlayers, maxPlayers, newPlayers, now);
+        return store.saveNodeStats(local)
+                .thenCompose(v -> store.loadNodeStats())
+                .thenApply(nodes -> aggregate(nodes, now, staleAfterMillis));
+    }
+
+    /**
+     * Sums the reports that are no older than staleAfterMillis.
+     * @return nodes, onlinePlayers, maxPlayers and newPlayers totals, plus the online players of each server.
+     */
+    public static Map<String, Object> aggregate(List<NodeStatsData> nodes, long now, long staleAfterMillis) {
+        int onlinePlayers = 0;
+        int maxPlayers = 0;
+        int newPlayers = 0;
+        Map<String, Integer> servers = new TreeMap<>();
+        for (NodeStatsData node : nodes) {
+            if (now - node.getUpdatedAt() > staleAfterMillis) {
+                continue;
+            }
+            onlinePlayers += node.getOnlinePlayers();
+            maxPlayers += node.getMaxPlayers();
+            newPlayers += node.getNewPlayers();
+            servers.put(node.getServerId(), node.getOnlinePlayers());
+        }
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("nodes", servers.size());
+        totals.put("onlinePlayers", onlinePlayers);
+        totals.put("maxPlayers", maxPlayers);
+        totals.put("newPlayers", newPlayers);
+        totals.put("servers", servers);
+        return totals;
+    }
+}
@@ -0,0 +1,112 @@
+// src/main/java/me/help/minecraft_store/services/PlaceholderService.java
+package me.help.minecraft_store.services;
+
+import me.clip.placeholderapi.PlaceholderAPI;
+import me.help.minecraft_store.jfr.ConnectorEvent;
+import me.help.minecraft_store.jfr.PlaceholderBatchEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Knows which PlaceholderAPI placeholders make up a player's profile stats and resolves them.
+ */
+public class PlaceholderService {
+
+    private static final String VAULT_BALANCE_KEY = "vault_eco_balance";
+
+    private volatile List<String> catalog;
+
+    /**
+     * Builds the placeholder catalog once all plugins are enabled, so requests no longer rebuild it.
+     */
+    public void warmUp() {
+        catalog = Collections.unmodifiableList(buildPlaceholders());
+    }
+
+    /**
+     * Returns all relevant PlaceholderAPI placeholders, from the warmed-up catalog when available.
+     */
+    public List<String> getPlaceholders() {
+        List<String> warmCatalog = catalog;
+        return warmCatalog != null ? warmCatalog : buildPlaceholders();
+    }
+
+    /**
+     * Gathers all relevant PlaceholderAPI placeholders.
+     */
+    private List<String> buildPlaceholders() {
+        List<String> placeholders = new ArrayList<>();
+        if (Bukkit.getPluginManager().isPluginEnabled("Fabled")) {
+            placeholders.addAll(Arrays.asList(
+                    "%fabled_player_class_mainclass%", "%fabled_default_currentlevel%", "%fabled_player_races_class%",
+                    "%fabled_health%", "%fabled_max_health%", "%fabled_mana%", "%fabled_max_mana%"
+            ));
+        }
+        if (Bukkit.getPluginManager().isPluginEnabled("AuraSkills")) {
+            placeholders.addAll(Arrays.asList(
+                    "%auraskills_power%", "%auraskills_farming%", "%auraskills_foraging%",
+                    "%auraskills_mining%", "%auraskills_fishing%", "%auraskills_excavation%",
+                    "%auraskills_archery%", "%auraskills_defense%", "%auraskills_fighting%",
+                    "%auraskills_endurance%", "%auraskills_agility%", "%auraskills_alchemy%",
+                    "%auraskills_enchanting%", "%auraskills_sorcery%", "%auraskills_healing%",
+                    "%auraskills_forging%"
+            ));
+        }
+        placeholders.add("%statistic_player_kills%");
+        placeholders.add("%statistic_deaths%");
+        if (Bukkit.getPluginManager().isPluginEnabled("Vault")) {
+            placeholders.add("%" + VAULT_BALANCE_KEY + "%");
+        }
+        return placeholders;
+    }
+
+    /**
+     * Resolves every placeholder for a player in one batch.
+     * Only meaningful values are kept: unresolved placeholders and empty strings are skipped.
+     * @return Stats keyed by the placeholder name without percent signs, lower-cased.
+     */
+    public Map<String, String> resolveStats(OfflinePlayer player) {
+        Map<String, String> stats = new HashMap<>();
+        List<String> placeholders = getPlaceholders();
+        if (placeholders.isEmpty()) {
+            return stats;
+        }
+
+        PlaceholderBatchEvent event = new PlaceholderBatchEvent();
+        event.begin();
+        List<String> parsedValues = setPlaceholders(player, placeholders);
+        event.end();
+        for (int i = 0; i < placeholders.size(); i++) {
+            String placeholder = placeholders.get(i);
+            String value = parsedValues.get(i);
+            if (value == null || value.equals(placeholder) || value.isEmpty()) {
+                continue;
+            }
+            String key = placeholder.replace("%", "").toLowerCase();
+            // Balances are stored without thousands separators so the website can parse them
+            stats.put(key, key.equals(VAULT_BALANCE_KEY) ? value.replace(",", "") : value);
+        }
+        if (event.shouldCommit()) {
+            event.setPlayer(player.getUniqueId());
+            event.setPlaceholders(placeholders.size());
+            event.setResolved(stats.size());
+            event.setPayloadSize(ConnectorEvent.utf8Length(stats));
+            event.commit();
+        }
+        return stats;
+    }
+
+    /**
+     * Hands a batch of placeholders to PlaceholderAPI.
+     */
+    protected List<String> setPlaceholders(OfflinePlayer player, List<String> placeholders) {
+        return PlaceholderAPI.setPlaceholders(player, placeholders);
+    }
+}
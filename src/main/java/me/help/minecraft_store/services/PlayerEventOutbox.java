@@ -0,0 +1,85 @@
+// src/main/java/me/help/minecraft_store/services/PlayerEventOutbox.java
+package me.help.minecraft_store.services;
+
+import me.help.minecraft_store.data.PlayerEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, lock-free buffer of player events waiting to be sent. Appending is cheap enough for the main thread:
+ * it never waits for I/O or a lock, and when the buffer is full the event is dropped and counted instead.
+ * Events appended concurrently may be queued slightly out of sequence order; the backend dedups on epoch and
+ * sequence number, so that is harmless.
+ */
+public class PlayerEventOutbox {
+
+    private final Queue<PlayerEvent> events = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong nextSeq = new AtomicLong(1);
+    private final AtomicLong dropped = new AtomicLong();
+    private final int capacity;
+    // Identifies this plugin start, so the backend can tell sequence numbers of different runs apart
+    private final long epoch = System.currentTimeMillis();
+
+    /**
+     * @param capacity Maximum number of buffered events, 0 to disable the outbox.
+     */
+    public PlayerEventOutbox(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * Assigns the next sequence number and buffers the event.
+     * @return false if the outbox is disabled or full.
+     */
+    public boolean append(PlayerEvent event) {
+        if (!isEnabled()) {
+            return false;
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.incrementAndGet();
+            return false;
+        }
+        event.setSeq(nextSeq.getAndIncrement());
+        events.offer(event);
+        return true;
+    }
+
+    /**
+     * Removes up to maxEvents events, oldest first.
+     */
+    public List<PlayerEvent> drain(int maxEvents) {
+        List<PlayerEvent> batch = new ArrayList<>(Math.min(maxEvents, Math.max(size.get(), 0)));
+        PlayerEvent event;
+        while (batch.size() < maxEvents && (event = events.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(event);
+        }
+        return batch;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * @return The number of events dropped because the outbox was full since the last call.
+     */
+    public long takeDroppedCount() {
+        return dropped.getAndSet(0);
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+}
@@ -1,96 +1,143 @@
 // src/main/java/me/help/minecraft_store/services/PlayerProfileService.java
 package me.help.minecraft_store.services;
 
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.firestore.DocumentReference;
-import com.google.cloud.firestore.Firestore;
-import com.google.cloud.firestore.FirestoreOptions;
 import me.help.minecraft_store.AtlasCoreConnector;
 import me.help.minecraft_store.data.PlayerProfileData;
-import org.bukkit.scheduler.BukkitRunnable;
+import me.help.minecraft_store.jfr.ConnectorEvent;
+import me.help.minecraft_store.jfr.ProfileStoreEvent;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 
 public class PlayerProfileService {
 
     private final AtlasCoreConnector plugin;
-    private Firestore db;
-    private final CompletableFuture<Void> initializationFuture = new CompletableFuture<>();
+    private final ProfileStore store;
+    private final ProfileCoordinator coordinator;
 
-    public PlayerProfileService(AtlasCoreConnector plugin) {
+    public PlayerProfileService(AtlasCoreConnector plugin, ProfileStore store) {
         this.plugin = plugin;
-        initializeFirebase();
+        this.store = store;
+        this.coordinator = new ProfileCoordinator(store, resolveServerId());
     }
 
-    private void initializeFirebase() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                try {
-                    String serviceAccountFileName = plugin.getConfig().getString("firebase.serviceAccountKeyPath");
-                    if (serviceAccountFileName == null || serviceAccountFileName.isEmpty()) {
-                        plugin.getLogger().severe("Firebase serviceAccountKeyPath is not set in config.yml.");
-                        initializationFuture.completeExceptionally(new IOException("Firebase serviceAccountKeyPath is not set."));
-                        return;
-                    }
-
-                    File serviceAccountFile = new File(plugin.getDataFolder(), serviceAccountFileName);
-                    if (!serviceAccountFile.exists()) {
-                        throw new IOException("Firebase service account key file not found at: " + serviceAccountFile.getAbsolutePath());
-                    }
-
-                    FileInputStream serviceAccountStream = new FileInputStream(serviceAccountFile);
-                    GoogleCredentials credentials = GoogleCredentials.fromStream(serviceAccountStream);
-
-                    // Modern way to initialize Firestore
-                    FirestoreOptions firestoreOptions = FirestoreOptions.newBuilder()
-                            .setCredentials(credentials)
-                            .build();
-                    db = firestoreOptions.getService();
-
-                    plugin.getLogger().info("Firestore initialized successfully.");
-                    initializationFuture.complete(null);
-                } catch (Exception e) {
-                    plugin.getLogger().log(Level.SEVERE, "Failed to initialize Firestore.", e);
-                    initializationFuture.completeExceptionally(e);
-                }
-            }
-        }.runTaskAsynchronously(plugin);
+    /**
+     * @return Whether the network settings are usable: network mode is off, or it is on and network.serverId is set.
+     * Without an id there is no safe fallback. Single-server mode would write the shared store last-writer-wins, and
+     * guessing an id fails because backends on different hosts share ports, while two servers with one id defeat the
+     * ownership checks.
+     */
+    public static boolean hasValidNetworkConfig(AtlasCoreConnector plugin) {
+        if (!plugin.getConfig().getBoolean("network.enabled", false)) {
+            return true;
+        }
+        String serverId = plugin.getConfig().getString("network.serverId", "");
+        return serverId != null && !serverId.trim().isEmpty();
+    }
+
+    /**
+     * @return The configured network.serverId if network mode is enabled, otherwise null.
+     */
+    private String resolveServerId() {
+        if (!plugin.getConfig().getBoolean("network.enabled", false)) {
+            return null;
+        }
+        if (!hasValidNetworkConfig(plugin)) {
+            throw new IllegalStateException("network.enabled is true but network.serverId is not set.");
+        }
+        String serverId = plugin.getConfig().getString("network.serverId", "").trim();
+        plugin.getLogger().info("Network mode enabled as server \"" + serverId + "\".");
+        return serverId;
     }
 
     public CompletableFuture<Void> onReady() {
-        return initializationFuture;
+        return store.onReady();
+    }
+
+    public ProfileStore getStore() {
+        return store;
+    }
+
+    public boolean isNetworkMode() {
+        return coordinator.isNetworkMode();
+    }
+
+    /**
+     * @return This server's id in the network, or null when network mode is off.
+     */
+    public String getServerId() {
+        return coordinator.getServerId();
+    }
+
+    /**
+     * Network mode: makes this server the owner of the player's profile. Does nothing otherwise.
+     * @return Whether the player had no profile anywhere in the network yet.
+     */
+    public CompletableFuture<Boolean> claimPlayerProfile(UUID uuid, String playerName) {
+        ProfileStoreEvent event = ProfileStoreEvent.start(ProfileStoreEvent.CLAIM, store);
+        return coordinator.claim(uuid, playerName).whenComplete((firstJoin, ex) -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setPlayer(uuid);
+                event.setSuccess(ex == null);
+                event.commit();
+            }
+        });
     }
 
     public void savePlayerProfile(PlayerProfileData profileData) {
-        onReady().thenRunAsync(() -> {
-            try {
-                DocumentReference docRef = db.collection("player_profiles").document(profileData.getUuid());
-                docRef.set(profileData).get();
-            } catch (InterruptedException | ExecutionException e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to save player profile for " + profileData.getPlayerName(), e);
+        savePlayerProfile(profileData, false);
+    }
+
+    /**
+     * @param releaseOwnership Network mode: give up ownership with this write, e.g. when the player quits.
+     */
+    public void savePlayerProfile(PlayerProfileData profileData, boolean releaseOwnership) {
+        ProfileStoreEvent event = ProfileStoreEvent.start(ProfileStoreEvent.SAVE, store);
+        coordinator.save(profileData, releaseOwnership).whenComplete((written, ex) -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setPlayer(UUID.fromString(profileData.getUuid()));
+                event.setSuccess(ex == null);
+                event.setWritten(Boolean.TRUE.equals(written));
+                event.setPayloadSize(ConnectorEvent.utf8Length(profileData.getStats()));
+                event.commit();
+            }
+        }).thenAccept(written -> {
+            if (!written) {
+                plugin.getLogger().info("Skipped saving the profile of " + profileData.getPlayerName()
+                        + ": another server owns it or has stored newer data.");
+                return;
+            }
+            // Any cached /player-stats response older than this save is now stale
+            if (plugin.getPlayerStatsCache() != null) {
+                plugin.getPlayerStatsCache().invalidate(UUID.fromString(profileData.getUuid()), profileData.getLastUpdated());
             }
         }).exceptionally(ex -> {
-            plugin.getLogger().warning("Firestore not ready. Could not save player profile: " + profileData.getPlayerName());
+            if (store.onReady().isCompletedExceptionally()) {
+                plugin.getLogger().warning("Profile store not ready. Could not save player profile: " + profileData.getPlayerName());
+            } else {
+                plugin.getLogger().log(Level.SEVERE, "Failed to save player profile for " + profileData.getPlayerName(), ex);
+            }
             return null;
         });
     }
 
     public CompletableFuture<PlayerProfileData> loadPlayerProfile(UUID uuid) {
-        return onReady().thenApplyAsync(v -> {
-            try {
-                DocumentReference docRef = db.collection("player_profiles").document(uuid.toString());
-                return docRef.get().get().toObject(PlayerProfileData.class);
-            } catch (InterruptedException | ExecutionException e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to load player profile for " + uuid, e);
-                throw new RuntimeException(e);
+        ProfileStoreEvent event = ProfileStoreEvent.start(ProfileStoreEvent.LOAD, store);
+        return store.load(uuid).whenComplete((profile, ex) -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setPlayer(uuid);
+                event.setSuccess(ex == null);
+                event.setPayloadSize(profile != null ? ConnectorEvent.utf8Length(profile.getStats()) : 0);
+                event.commit();
             }
         });
     }
-}
\ No newline at end of file
+
+    public void shutdown() {
+        store.close();
+    }
+}
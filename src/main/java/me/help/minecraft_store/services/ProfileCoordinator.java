@@ -0,0 +1,109 @@
+// src/main/java/me/help/minecraft_store/services/ProfileCoordinator.java
+package me.help.minecraft_store.services;
+
+import me.help.minecraft_store.data.PlayerProfileData;
+
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decides which profile writes reach the store.
+ * <p>
+ * On a single server every write goes through unchanged. In network mode several servers share the store, so:
+ * <ul>
+ *     <li>every write is tagged with the id of the server that collected the stats,</li>
+ *     <li>the server a player joins claims the profile, and only the owner (or anyone while unowned) may write it,</li>
+ *     <li>a write only lands if it is newer than the stored profile, judged by {@code lastUpdated}.</li>
+ * </ul>
+ * A late quit-time save from the server a player just left can therefore no longer overwrite newer data.
+ */
+public class ProfileCoordinator {
+
+    // A claim only races with other writes of the same profile, so a few attempts are plenty
+    private static final int MAX_CLAIM_ATTEMPTS = 5;
+
+    private final ProfileStore store;
+    private final String serverId;
+
+    /**
+     * @param serverId This server's id in the network, or null when network mode is off.
+     */
+    public ProfileCoordinator(ProfileStore store, String serverId) {
+        this.store = store;
+        this.serverId = serverId;
+    }
+
+    public boolean isNetworkMode() {
+        return serverId != null;
+    }
+
+    public String getServerId() {
+        return serverId;
+    }
+
+    /**
+     * Makes this server the owner of a player's profile, creating an empty profile if there is none yet.
+     * Takes over from any other server: the player is here now.
+     * @return Whether the profile did not exist anywhere in the network before, i.e. a first join.
+     */
+    public CompletableFuture<Boolean> claim(UUID uuid, String playerName) {
+        if (!isNetworkMode()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return claim(uuid, playerName, 1);
+    }
+
+    private CompletableFuture<Boolean> claim(UUID uuid, String playerName, int attempt) {
+        return store.load(uuid).thenCompose(stored -> {
+            if (stored != null && serverId.equals(stored.getOwnerServerId())) {
+                return CompletableFuture.completedFuture(false);
+            }
+            // Ownership changes leave lastUpdated alone: the stats themselves are not newer
+            PlayerProfileData claimed = stored != null
+                    ? new PlayerProfileData(stored)
+                    : new PlayerProfileData(uuid, playerName, new HashMap<>(), 0L);
+            claimed.setOwnerServerId(serverId);
+
+            return store.saveIf(claimed, current -> isSameVersion(current, stored)).thenCompose(written -> {
+                if (written) {
+                    return CompletableFuture.completedFuture(stored == null);
+                }
+                if (attempt >= MAX_CLAIM_ATTEMPTS) {
+                    return CompletableFuture.failedFuture(new IllegalStateException(
+                            "Could not claim the profile of " + playerName + " after " + attempt + " attempts."));
+                }
+                return claim(uuid, playerName, attempt + 1);
+            });
+        });
+    }
+
+    /**
+     * Writes a profile, subject to network mode rules.
+     * @param releaseOwnership Give up ownership with this write, e.g. when the player quits.
+     * @return Whether the profile was written. False means a newer profile is stored or another server owns it.
+     */
+    public CompletableFuture<Boolean> save(PlayerProfileData profile, boolean releaseOwnership) {
+        if (!isNetworkMode()) {
+            return store.save(profile).thenApply(v -> true);
+        }
+        PlayerProfileData tagged = new PlayerProfileData(profile);
+        tagged.setServerId(serverId);
+        tagged.setOwnerServerId(releaseOwnership ? null : serverId);
+        return store.saveIf(tagged, current -> current == null
+                || (current.getLastUpdated() < tagged.getLastUpdated() && mayWrite(current)));
+    }
+
+    private boolean mayWrite(PlayerProfileData current) {
+        return current.getOwnerServerId() == null || serverId.equals(current.getOwnerServerId());
+    }
+
+    private static boolean isSameVersion(PlayerProfileData current, PlayerProfileData read) {
+        if (current == null || read == null) {
+            return current == read;
+        }
+        return current.getLastUpdated() == read.getLastUpdated()
+                && Objects.equals(current.getOwnerServerId(), read.getOwnerServerId());
+    }
+}
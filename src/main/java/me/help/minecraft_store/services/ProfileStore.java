@@ -0,0 +1,73 @@
+// src/main/java/me/help/minecraft_store/services/ProfileStore.java
+package me.help.minecraft_store.services;
+
+import me.help.minecraft_store.data.NodeStatsData;
+import me.help.minecraft_store.data.PlayerProfileData;
+import me.help.minecraft_store.data.ProfileCursor;
+import me.help.minecraft_store.data.ProfilePage;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+/**
+ * Backend that persists player profiles. All operations are asynchronous and must not be joined on the main thread
+ * unless the caller accepts blocking it.
+ */
+public interface ProfileStore {
+
+    /**
+     * Completes once the store is able to serve reads and writes, or exceptionally if it failed to initialize.
+     */
+    CompletableFuture<Void> onReady();
+
+    /**
+     * Loads a profile. Completes with null if the player has no stored profile.
+     */
+    CompletableFuture<PlayerProfileData> load(UUID uuid);
+
+    /**
+     * Creates or replaces a profile.
+     */
+    CompletableFuture<Void> save(PlayerProfileData profile);
+
+    /**
+     * Creates or replaces a profile only if the stored one (null if there is none) passes the condition.
+     * The check and the write are atomic with respect to other writers, including other servers.
+     * @return Whether the profile was written.
+     */
+    CompletableFuture<Boolean> saveIf(PlayerProfileData profile, Predicate<PlayerProfileData> condition);
+
+    /**
+     * Loads the next profiles in export order (ascending lastUpdated, then UUID), for paging through every profile.
+     * @param after Cursor from the previous page, or null to start at the beginning.
+     * @param since Only profiles with a lastUpdated of at least this value are included.
+     * @param limit Maximum number of profiles in the page.
+     */
+    CompletableFuture<ProfilePage> loadPage(ProfileCursor after, long since, int limit);
+
+    /**
+     * Creates or replaces the stats document of one server in the network.
+     */
+    CompletableFuture<Void> saveNodeStats(NodeStatsData stats);
+
+    /**
+     * Loads the last reported stats of every server in the network.
+     */
+    CompletableFuture<List<NodeStatsData>> loadNodeStats();
+
+    /**
+     * Opens connections and primes caches so the first real request does not pay for it.
+     * Completes once the store is ready and warm.
+     */
+    default CompletableFuture<Void> warmup() {
+        return onReady();
+    }
+
+    /**
+     * Releases any resources held by the store.
+     */
+    default void close() {
+    }
+}
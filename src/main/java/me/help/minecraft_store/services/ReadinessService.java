@@ -0,0 +1,160 @@
+// src/main/java/me/help/minecraft_store/services/ReadinessService.java
+package me.help.minecraft_store.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Tracks which subsystems have finished starting up and how long each took.
+ * Backs the /health endpoint and lets routes refuse requests until their dependencies are ready.
+ * Optional subsystems are ones the plugin can do its job without, such as the profile store: if they fail, the
+ * plugin is degraded rather than down.
+ */
+public class ReadinessService {
+
+    public static final String SERVER = "server";
+    public static final String PROFILES = "profiles";
+    public static final String PLACEHOLDERS = "placeholders";
+    public static final String SERIALIZATION = "serialization";
+    public static final String WEB = "web";
+
+    public enum State {
+        STARTING, READY, FAILED
+    }
+
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<String, Subsystem> subsystems = new LinkedHashMap<>();
+
+    /**
+     * Registers a subsystem that is ready once the given future completes successfully.
+     * @return The same future, for chaining.
+     */
+    public <T> CompletableFuture<T> track(String name, CompletableFuture<T> future) {
+        return track(name, future, false);
+    }
+
+    /**
+     * Like {@link #track}, for a subsystem whose failure leaves the plugin degraded instead of down.
+     */
+    public <T> CompletableFuture<T> trackOptional(String name, CompletableFuture<T> future) {
+        return track(name, future, true);
+    }
+
+    private <T> CompletableFuture<T> track(String name, CompletableFuture<T> future, boolean optional) {
+        Subsystem subsystem = new Subsystem(optional);
+        synchronized (subsystems) {
+            subsystems.put(name, subsystem);
+        }
+        future.whenComplete((result, error) -> subsystem.finish(error));
+        return future;
+    }
+
+    public boolean isReady(String... names) {
+        synchronized (subsystems) {
+            for (String name : names) {
+                Subsystem subsystem = subsystems.get(name);
+                if (subsystem == null || subsystem.state != State.READY) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * For optional dependencies: true once every subsystem is either ready or has failed for good.
+     * A route can then serve degraded responses instead of waiting for a subsystem that will never come up.
+     */
+    public boolean isSettled(String... names) {
+        synchronized (subsystems) {
+            for (String name : names) {
+                Subsystem subsystem = subsystems.get(name);
+                if (subsystem == null || subsystem.state == State.STARTING) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Whether the plugin can take traffic: the status is UP or DEGRADED.
+     */
+    public boolean isServing() {
+        String status = getStatus();
+        return status.equals("UP") || status.equals("DEGRADED");
+    }
+
+    /**
+     * Overall status: DOWN if a required subsystem failed, STARTING while any subsystem is still starting, DEGRADED if
+     * only optional subsystems failed, otherwise UP.
+     */
+    public String getStatus() {
+        synchronized (subsystems) {
+            if (subsystems.values().stream().anyMatch(subsystem -> subsystem.state == State.FAILED && !subsystem.optional)) {
+                return "DOWN";
+            }
+            if (subsystems.values().stream().anyMatch(subsystem -> subsystem.state == State.STARTING)) {
+                return "STARTING";
+            }
+            return subsystems.values().stream().anyMatch(subsystem -> subsystem.state == State.FAILED) ? "DEGRADED" : "UP";
+        }
+    }
+
+    /**
+     * Per-subsystem state and initialization timings, ready to be serialized.
+     * @param includeErrors Whether to add the failure of each failed subsystem. Errors can contain file paths and
+     *                      other internals, so only include them for authenticated callers.
+     */
+    public Map<String, Object> snapshot(boolean includeErrors) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        synchronized (subsystems) {
+            subsystems.forEach((name, subsystem) -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("state", subsystem.state.name());
+                entry.put("optional", subsystem.optional);
+                entry.put("startedAfterMillis", subsystem.startedAt - startedAt);
+                entry.put("durationMillis", subsystem.durationMillis());
+                if (includeErrors && subsystem.error != null) {
+                    entry.put("error", subsystem.error);
+                }
+                details.put(name, entry);
+            });
+        }
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("status", getStatus());
+        snapshot.put("uptimeMillis", System.currentTimeMillis() - startedAt);
+        snapshot.put("subsystems", details);
+        return snapshot;
+    }
+
+    private static final class Subsystem {
+        private final long startedAt = System.currentTimeMillis();
+        private final boolean optional;
+        private volatile State state = State.STARTING;
+        private volatile long finishedAt;
+        private volatile String error;
+
+        private Subsystem(boolean optional) {
+            this.optional = optional;
+        }
+
+        private void finish(Throwable failure) {
+            finishedAt = System.currentTimeMillis();
+            if (failure != null) {
+                Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+                error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+                state = State.FAILED;
+            } else {
+                state = State.READY;
+            }
+        }
+
+        private long durationMillis() {
+            return (state == State.STARTING ? System.currentTimeMillis() : finishedAt) - startedAt;
+        }
+    }
+}
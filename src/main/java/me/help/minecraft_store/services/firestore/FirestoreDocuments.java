@@ -0,0 +1,158 @@
+// src/main/java/me/help/minecraft_store/services/firestore/FirestoreDocuments.java
+package me.help.minecraft_store.services.firestore;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import me.help.minecraft_store.data.NodeStatsData;
+import me.help.minecraft_store.data.PlayerProfileData;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converts player profiles and node stats to and from Firestore's typed REST document format.
+ * Field names match what the client library writes, so both backends read each other's documents.
+ */
+public final class FirestoreDocuments {
+
+    private FirestoreDocuments() {
+    }
+
+    /**
+     * @return The "fields" object of a profile document.
+     */
+    public static JsonObject encodeProfile(PlayerProfileData profile) {
+        JsonObject fields = new JsonObject();
+        fields.add("uuid", stringValue(profile.getUuid()));
+        fields.add("playerName", stringValue(profile.getPlayerName()));
+        fields.add("stats", mapValue(profile.getStats()));
+        fields.add("lastUpdated", integerValue(profile.getLastUpdated()));
+        fields.add("serverId", stringValue(profile.getServerId()));
+        fields.add("ownerServerId", stringValue(profile.getOwnerServerId()));
+        return fields;
+    }
+
+    /**
+     * @param document A Firestore document with a "fields" object, as returned by batchGet, list or runQuery.
+     */
+    public static PlayerProfileData decodeProfile(JsonObject document) {
+        JsonObject fields = document.has("fields") ? document.getAsJsonObject("fields") : new JsonObject();
+        PlayerProfileData profile = new PlayerProfileData();
+        profile.setUuid(getString(fields, "uuid"));
+        profile.setPlayerName(getString(fields, "playerName"));
+        profile.setLastUpdated(getLong(fields, "lastUpdated"));
+        profile.setServerId(getString(fields, "serverId"));
+        profile.setOwnerServerId(getString(fields, "ownerServerId"));
+
+        Map<String, String> stats = new HashMap<>();
+        if (fields.has("stats") && fields.getAsJsonObject("stats").has("mapValue")) {
+            JsonObject mapValue = fields.getAsJsonObject("stats").getAsJsonObject("mapValue");
+            if (mapValue.has("fields")) {
+                for (Map.Entry<String, JsonElement> entry : mapValue.getAsJsonObject("fields").entrySet()) {
+                    stats.put(entry.getKey(), asString(entry.getValue().getAsJsonObject()));
+                }
+            }
+        }
+        profile.setStats(stats);
+        return profile;
+    }
+
+    public static JsonObject encodeNodeStats(NodeStatsData stats) {
+        JsonObject fields = new JsonObject();
+        fields.add("serverId", stringValue(stats.getServerId()));
+        fields.add("onlinePlayers", integerValue(stats.getOnlinePlayers()));
+        fields.add("maxPlayers", integerValue(stats.getMaxPlayers()));
+        fields.add("newPlayers", integerValue(stats.getNewPlayers()));
+        fields.add("updatedAt", integerValue(stats.getUpdatedAt()));
+        return fields;
+    }
+
+    public static NodeStatsData decodeNodeStats(JsonObject document) {
+        JsonObject fields = document.has("fields") ? document.getAsJsonObject("fields") : new JsonObject();
+        return new NodeStatsData(
+                getString(fields, "serverId"),
+                (int) getLong(fields, "onlinePlayers"),
+                (int) getLong(fields, "maxPlayers"),
+                (int) getLong(fields, "newPlayers"),
+                getLong(fields, "updatedAt"));
+    }
+
+    public static JsonObject stringValue(String value) {
+        JsonObject json = new JsonObject();
+        if (value == null) {
+            json.add("nullValue", JsonNull.INSTANCE);
+        } else {
+            json.addProperty("stringValue", value);
+        }
+        return json;
+    }
+
+    public static JsonObject integerValue(long value) {
+        // int64 values travel as JSON strings in the REST API
+        JsonObject json = new JsonObject();
+        json.addProperty("integerValue", Long.toString(value));
+        return json;
+    }
+
+    public static JsonObject referenceValue(String documentName) {
+        JsonObject json = new JsonObject();
+        json.addProperty("referenceValue", documentName);
+        return json;
+    }
+
+    /**
+     * @return A field reference as used in structured query filters and orderings.
+     */
+    public static JsonObject fieldReference(String fieldPath) {
+        JsonObject json = new JsonObject();
+        json.addProperty("fieldPath", fieldPath);
+        return json;
+    }
+
+    public static JsonObject mapValue(Map<String, String> values) {
+        JsonObject fields = new JsonObject();
+        if (values != null) {
+            values.forEach((key, value) -> fields.add(key, stringValue(value)));
+        }
+        JsonObject mapValue = new JsonObject();
+        mapValue.add("fields", fields);
+        JsonObject json = new JsonObject();
+        json.add("mapValue", mapValue);
+        return json;
+    }
+
+    private static String getString(JsonObject fields, String name) {
+        return fields.has(name) ? asString(fields.getAsJsonObject(name)) : null;
+    }
+
+    private static long getLong(JsonObject fields, String name) {
+        if (!fields.has(name)) {
+            return 0;
+        }
+        JsonObject value = fields.getAsJsonObject(name);
+        if (value.has("integerValue")) {
+            return Long.parseLong(value.get("integerValue").getAsString());
+        }
+        if (value.has("doubleValue")) {
+            return (long) value.get("doubleValue").getAsDouble();
+        }
+        return 0;
+    }
+
+    private static String asString(JsonObject value) {
+        if (value.has("stringValue")) {
+            return value.get("stringValue").getAsString();
+        }
+        if (value.has("integerValue")) {
+            return value.get("integerValue").getAsString();
+        }
+        if (value.has("doubleValue")) {
+            return value.get("doubleValue").getAsString();
+        }
+        if (value.has("booleanValue")) {
+            return value.get("booleanValue").getAsString();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,239 @@
+// src/main/java/me/help/minecraft_store/services/firestore/FirestoreRestClient.java
+package me.help.minecraft_store.services.firestore;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Minimal Firestore v1 REST client on top of the JDK's HTTP/2 client.
+ * Covers only what the plugin needs: batched reads, collection listing, structured queries, commits and
+ * conditional field-mask patches.
+ */
+public class FirestoreRestClient {
+
+    private static final int MAX_ERROR_BODY_LENGTH = 500;
+
+    private final Gson gson = new Gson();
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String databasePath;
+    private final ServiceAccountTokenProvider tokenProvider;
+    private final Duration requestTimeout;
+
+    /**
+     * @param baseUrl       API root, e.g. "https://firestore.googleapis.com/v1" or an emulator's address.
+     * @param tokenProvider Source of access tokens, or null to send the emulator's "owner" credentials.
+     */
+    public FirestoreRestClient(HttpClient httpClient, String baseUrl, String projectId,
+                               ServiceAccountTokenProvider tokenProvider, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.databasePath = "projects/" + projectId + "/databases/(default)";
+        this.tokenProvider = tokenProvider;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * @return The full resource name of a document, as used in requests and responses.
+     */
+    public String documentName(String collection, String documentId) {
+        return databasePath + "/documents/" + collection + "/" + documentId;
+    }
+
+    /**
+     * Reads several documents in one round trip.
+     * @return Found documents keyed by resource name; missing documents are absent.
+     */
+    public CompletableFuture<Map<String, JsonObject>> batchGet(Collection<String> documentNames) {
+        JsonObject body = new JsonObject();
+        JsonArray documents = new JsonArray();
+        documentNames.forEach(documents::add);
+        body.add("documents", documents);
+
+        return send("POST", baseUrl + "/" + databasePath + "/documents:batchGet", gson.toJson(body)).thenApply(response -> {
+            Map<String, JsonObject> found = new HashMap<>();
+            for (JsonElement element : gson.fromJson(response, JsonArray.class)) {
+                JsonObject result = element.getAsJsonObject();
+                if (result.has("found")) {
+                    JsonObject document = result.getAsJsonObject("found");
+                    found.put(document.get("name").getAsString(), document);
+                }
+            }
+            return found;
+        });
+    }
+
+    /**
+     * Lists every document of a small collection, following page tokens.
+     */
+    public CompletableFuture<List<JsonObject>> listDocuments(String collection) {
+        return listDocuments(collection, null, new ArrayList<>());
+    }
+
+    private CompletableFuture<List<JsonObject>> listDocuments(String collection, String pageToken, List<JsonObject> documents) {
+        String url = baseUrl + "/" + databasePath + "/documents/" + collection + "?pageSize=300"
+                + (pageToken != null ? "&pageToken=" + URLEncoder.encode(pageToken, StandardCharsets.UTF_8) : "");
+        return send("GET", url, null).thenCompose(response -> {
+            JsonObject page = gson.fromJson(response, JsonObject.class);
+            if (page != null && page.has("documents")) {
+                page.getAsJsonArray("documents").forEach(document -> documents.add(document.getAsJsonObject()));
+            }
+            if (page != null && page.has("nextPageToken")) {
+                return listDocuments(collection, page.get("nextPageToken").getAsString(), documents);
+            }
+            return CompletableFuture.completedFuture(documents);
+        });
+    }
+
+    /**
+     * Runs a structured query against the whole database.
+     * @return The matching documents, in query order.
+     */
+    public CompletableFuture<List<JsonObject>> runQuery(JsonObject structuredQuery) {
+        JsonObject body = new JsonObject();
+        body.add("structuredQuery", structuredQuery);
+        return send("POST", baseUrl + "/" + databasePath + "/documents:runQuery", gson.toJson(body)).thenApply(response -> {
+            // One result per document; results without a document only report progress
+            List<JsonObject> documents = new ArrayList<>();
+            for (JsonElement element : gson.fromJson(response, JsonArray.class)) {
+                JsonObject result = element.getAsJsonObject();
+                if (result.has("document")) {
+                    documents.add(result.getAsJsonObject("document"));
+                }
+            }
+            return documents;
+        });
+    }
+
+    /**
+     * Atomically applies a list of writes, e.g. from {@link #updateWrite}.
+     */
+    public CompletableFuture<Void> commit(List<JsonObject> writes) {
+        JsonObject body = new JsonObject();
+        JsonArray writeArray = new JsonArray();
+        writes.forEach(writeArray::add);
+        body.add("writes", writeArray);
+        return send("POST", baseUrl + "/" + databasePath + "/documents:commit", gson.toJson(body)).thenApply(response -> null);
+    }
+
+    /**
+     * Builds a write that replaces a whole document, like the client library's set().
+     */
+    public JsonObject updateWrite(String documentName, JsonObject fields) {
+        JsonObject document = new JsonObject();
+        document.addProperty("name", documentName);
+        document.add("fields", fields);
+        JsonObject write = new JsonObject();
+        write.add("update", document);
+        return write;
+    }
+
+    /**
+     * Builds a write that replaces a whole document only if it is unchanged since it was read.
+     * The commit then fails with a precondition error, see {@link FirestoreRestException#isPreconditionFailure()}.
+     * @param readDocument The document as read before, or null if it did not exist.
+     */
+    public JsonObject updateWrite(String documentName, JsonObject fields, JsonObject readDocument) {
+        JsonObject precondition = new JsonObject();
+        if (readDocument != null) {
+            precondition.addProperty("updateTime", readDocument.get("updateTime").getAsString());
+        } else {
+            precondition.addProperty("exists", false);
+        }
+        JsonObject write = updateWrite(documentName, fields);
+        write.add("currentDocument", precondition);
+        return write;
+    }
+
+    /**
+     * Updates only the given fields of an existing document, and only if it is unchanged since it was read.
+     * Fields named in fieldPaths but missing from fields are deleted. Fails with a precondition error like
+     * {@link #updateWrite(String, JsonObject, JsonObject)} if another write got there first.
+     * @param readDocument The document as read before.
+     */
+    public CompletableFuture<JsonObject> patch(String documentName, JsonObject fields, Collection<String> fieldPaths, JsonObject readDocument) {
+        StringBuilder url = new StringBuilder(baseUrl).append('/').append(documentName)
+                .append("?currentDocument.updateTime=")
+                .append(URLEncoder.encode(readDocument.get("updateTime").getAsString(), StandardCharsets.UTF_8));
+        for (String fieldPath : fieldPaths) {
+            url.append("&updateMask.fieldPaths=").append(URLEncoder.encode(fieldPath, StandardCharsets.UTF_8));
+        }
+        JsonObject body = new JsonObject();
+        body.add("fields", fields);
+        return send("PATCH", url.toString(), gson.toJson(body)).thenApply(response -> gson.fromJson(response, JsonObject.class));
+    }
+
+    private CompletableFuture<String> send(String method, String url, String body) {
+        return send(method, url, body, true);
+    }
+
+    /**
+     * @param retryUnauthorized Whether to fetch a fresh token and try once more if the token is rejected, e.g. because
+     *                          it expired early or was revoked.
+     */
+    private CompletableFuture<String> send(String method, String url, String body, boolean retryUnauthorized) {
+        CompletableFuture<String> accessToken = tokenProvider != null
+                ? tokenProvider.getAccessToken()
+                : CompletableFuture.completedFuture("owner");
+
+        return accessToken.thenCompose(token -> {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(requestTimeout)
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .method(method, body != null ? HttpRequest.BodyPublishers.ofString(body) : HttpRequest.BodyPublishers.noBody())
+                    .build();
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenCompose(response -> {
+                if (response.statusCode() == 401 && tokenProvider != null) {
+                    tokenProvider.invalidate(token);
+                    if (retryUnauthorized) {
+                        return send(method, url, body, false);
+                    }
+                }
+                return CompletableFuture.completedFuture(checkStatus(method, url, response));
+            });
+        });
+    }
+
+    private String checkStatus(String method, String url, HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
+            String responseBody = response.body();
+            if (responseBody.length() > MAX_ERROR_BODY_LENGTH) {
+                responseBody = responseBody.substring(0, MAX_ERROR_BODY_LENGTH) + "...";
+            }
+            throw new CompletionException(new FirestoreRestException(
+                    "Firestore " + method + " " + url + " failed with HTTP " + status + ": " + responseBody, status, errorStatus(response.body())));
+        }
+        return response.body();
+    }
+
+    private String errorStatus(String responseBody) {
+        try {
+            JsonObject json = gson.fromJson(responseBody, JsonObject.class);
+            if (json != null && json.has("error") && json.getAsJsonObject("error").has("status")) {
+                return json.getAsJsonObject("error").get("status").getAsString();
+            }
+        } catch (RuntimeException e) {
+            // Not a JSON error body, e.g. from a proxy
+        }
+        return null;
+    }
+}
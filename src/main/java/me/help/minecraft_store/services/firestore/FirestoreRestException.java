@@ -0,0 +1,37 @@
+// src/main/java/me/help/minecraft_store/services/firestore/FirestoreRestException.java
+package me.help.minecraft_store.services.firestore;
+
+import java.io.IOException;
+
+/**
+ * A request the Firestore REST API answered with an error status.
+ */
+public class FirestoreRestException extends IOException {
+
+    private final int statusCode;
+    private final String status;
+
+    public FirestoreRestException(String message, int statusCode, String status) {
+        super(message);
+        this.statusCode = statusCode;
+        this.status = status;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return The canonical error code from the response body, e.g. "FAILED_PRECONDITION", or null if there was none.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Whether a write was refused because the document changed since it was read.
+     */
+    public boolean isPreconditionFailure() {
+        return "FAILED_PRECONDITION".equals(status) || "ABORTED".equals(status) || statusCode == 409;
+    }
+}
@@ -0,0 +1,242 @@
+// src/main/java/me/help/minecraft_store/tasks/EventSenderTask.java
+package me.help.minecraft_store.tasks;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import me.help.minecraft_store.AtlasCoreConnector;
+import me.help.minecraft_store.data.PlayerEvent;
+import me.help.minecraft_store.services.PlayerEventOutbox;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Ships buffered player events to the backend in gzipped batches.
+ * <p>
+ * Delivery is at-least-once: a batch is only forgotten once the backend accepted it. While the backend is
+ * unreachable, batches are spilled to disk and retried oldest first on later runs, including after a restart.
+ * Every event carries the outbox epoch and a sequence number, so the backend can drop duplicates.
+ * The secret travels in the Authorization header, so spilled batches never contain it.
+ * <p>
+ * Only batches the backend can never accept (HTTP 400 and 413) are dropped. Everything else, including auth and
+ * routing errors that a config fix resolves, is kept and retried.
+ */
+public class EventSenderTask extends BukkitRunnable {
+
+    private static final String SPILL_SUFFIX = ".json.gz";
+
+    private final AtlasCoreConnector plugin;
+    private final PlayerEventOutbox outbox;
+    private final Gson gson = new Gson();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final File spillDirectory;
+    private final String url;
+    private final String secret;
+    private final int maxBatchSize;
+    private final int maxSpillFiles;
+    private volatile boolean stopping;
+    // Events in batches the backend rejected as unacceptable, only touched from run()
+    private long rejected;
+
+    public EventSenderTask(AtlasCoreConnector plugin, PlayerEventOutbox outbox) {
+        this.plugin = plugin;
+        this.outbox = outbox;
+        this.spillDirectory = new File(plugin.getDataFolder(), "event-spill");
+        this.url = plugin.getConfig().getString("events.url", "");
+        this.secret = plugin.getConfig().getString("events.secret", "");
+        this.maxBatchSize = Math.max(1, plugin.getConfig().getInt("events.maxBatchSize", 500));
+        this.maxSpillFiles = plugin.getConfig().getInt("events.maxSpillFiles", 1000);
+    }
+
+    @Override
+    public synchronized void run() {
+        long dropped = outbox.takeDroppedCount();
+        if (dropped > 0) {
+            plugin.getLogger().warning("Dropped " + dropped + " player events because the outbox was full.");
+        }
+        if (rejected > 0) {
+            plugin.getLogger().warning("Dropped " + rejected + " player events because the backend rejected them.");
+            rejected = 0;
+        }
+
+        // Older spilled batches go first; if they still fail the backend is down and new batches are spilled too
+        boolean backendUp = resendSpilled();
+        List<PlayerEvent> batch;
+        while (!(batch = outbox.drain(maxBatchSize)).isEmpty()) {
+            byte[] body;
+            try {
+                body = encode(batch);
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to encode " + batch.size() + " player events. They are lost.", e);
+                continue;
+            }
+            if (backendUp && !stopping) {
+                backendUp = send(body, batch.size());
+                if (backendUp) {
+                    continue;
+                }
+            }
+            spill(body, batch.get(0).getSeq());
+        }
+        trimSpill();
+    }
+
+    /**
+     * Stops sending and spills whatever is left in the outbox, for the next start to send. Called on shutdown.
+     * Does not wait for a send in progress: that run spills its remaining batches itself once it sees the flag.
+     */
+    public void spillRemaining() {
+        stopping = true;
+        List<PlayerEvent> batch;
+        while (!(batch = outbox.drain(maxBatchSize)).isEmpty()) {
+            try {
+                spill(encode(batch), batch.get(0).getSeq());
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to spill " + batch.size() + " player events. They are lost.", e);
+            }
+        }
+    }
+
+    /**
+     * @return Whether the backend accepted every spilled batch.
+     */
+    private boolean resendSpilled() {
+        for (File file : spilledFiles()) {
+            if (stopping) {
+                return false;
+            }
+            byte[] body;
+            try {
+                body = Files.readAllBytes(file.toPath());
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not read spilled player events " + file.getName() + ". Skipping it.", e);
+                continue;
+            }
+            if (!send(body, -1)) {
+                return false;
+            }
+            if (!file.delete()) {
+                plugin.getLogger().warning("Could not delete sent player events " + file.getName() + ". They will be sent again.");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param eventCount Number of events in the batch, or -1 to count them from the body if it gets dropped.
+     * @return Whether the batch is done with: accepted, or rejected as malformed so that retrying is pointless.
+     */
+    private boolean send(byte[] gzippedBody, int eventCount) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json; charset=UTF-8")
+                .header("Content-Encoding", "gzip")
+                .header("Authorization", "Bearer " + secret)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(gzippedBody))
+                .build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                return true;
+            }
+            if (status == 400 || status == 413) {
+                plugin.getLogger().severe("Backend rejected a batch of player events with HTTP " + status + ": " + response.body() + ". Dropping it.");
+                rejected += eventCount >= 0 ? eventCount : countEvents(gzippedBody);
+                return true;
+            }
+            if (status == 401 || status == 403 || status == 404) {
+                plugin.getLogger().severe("Backend refused player events with HTTP " + status
+                        + ". Check events.url and events.secret in config.yml. Keeping the events and retrying later.");
+                return false;
+            }
+            plugin.getLogger().warning("Failed to send player events. Code: " + status + ". Will retry later.");
+            return false;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not reach the backend to send player events: " + e.getMessage() + ". Will retry later.");
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private byte[] encode(List<PlayerEvent> batch) throws IOException {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        String serverId = plugin.getPlayerProfileService().getServerId();
+        if (serverId != null) {
+            payload.put("serverId", serverId);
+        }
+        payload.put("epoch", outbox.getEpoch());
+        payload.put("events", batch);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(gson.toJson(payload).getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private int countEvents(byte[] gzippedBody) {
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(gzippedBody)), StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, JsonObject.class).getAsJsonArray("events").size();
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private void spill(byte[] gzippedBody, long firstSeq) {
+        if (!spillDirectory.isDirectory() && !spillDirectory.mkdirs()) {
+            plugin.getLogger().severe("Could not create " + spillDirectory.getAbsolutePath() + ". Player events are lost.");
+            return;
+        }
+        // Zero-padded so that file names sort in sending order
+        File file = new File(spillDirectory, String.format("%013d-%019d%s", outbox.getEpoch(), firstSeq, SPILL_SUFFIX));
+        try {
+            Files.write(file.toPath(), gzippedBody);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not spill player events to " + file.getName() + ". They are lost.", e);
+        }
+    }
+
+    /**
+     * Caps the disk used during a long outage by dropping the oldest batches.
+     */
+    private void trimSpill() {
+        File[] files = spilledFiles();
+        int excess = files.length - maxSpillFiles;
+        for (int i = 0; i < excess; i++) {
+            if (files[i].delete()) {
+                plugin.getLogger().warning("Too many unsent player event batches. Dropped " + files[i].getName() + ".");
+            }
+        }
+    }
+
+    private File[] spilledFiles() {
+        File[] files = spillDirectory.listFiles((dir, name) -> name.endsWith(SPILL_SUFFIX));
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files);
+        return files;
+    }
+}
@@ -2,6 +2,8 @@ package me.help.minecraft_store.tasks;
 
 import com.google.gson.Gson;
 import me.help.minecraft_store.AtlasCoreConnector;
+import me.help.minecraft_store.jfr.StatsSendEvent;
+import me.help.minecraft_store.services.NetworkStatsService;
 import org.bukkit.Bukkit;
 import org.bukkit.scheduler.BukkitRunnable;
 
@@ -14,17 +16,26 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 public class StatsTask extends BukkitRunnable {
 
     private final AtlasCoreConnector plugin;
     private final Gson gson = new Gson();
+    private final NetworkStatsService networkStats;
     private int consecutiveFailures = 0;
     private static final int MAX_CONSECUTIVE_FAILURES = 3;
+    // A server that missed this many reports no longer counts towards the network totals
+    private static final int STALE_AFTER_INTERVALS = 3;
 
     public StatsTask(AtlasCoreConnector plugin) {
         this.plugin = plugin;
+        String serverId = plugin.getPlayerProfileService().getServerId();
+        long intervalMillis = plugin.getConfig().getLong("stats.interval", 6000) * 50L;
+        this.networkStats = serverId != null
+                ? new NetworkStatsService(plugin.getPlayerProfileService().getStore(), serverId, intervalMillis * STALE_AFTER_INTERVALS)
+                : null;
     }
 
     @Override
@@ -36,6 +47,8 @@ public class StatsTask extends BukkitRunnable {
             return;
         }
 
+        StatsSendEvent event = new StatsSendEvent();
+        event.begin();
         HttpURLConnection connection = null;
         try {
             URL url = new URL(urlString);
@@ -43,10 +56,12 @@ public class StatsTask extends BukkitRunnable {
             configureConnection(connection);
 
             String jsonPayload = createPayload(secret);
-            sendRequest(connection, jsonPayload);
+            event.setPayloadSize(sendRequest(connection, jsonPayload));
 
             int responseCode = connection.getResponseCode();
+            event.setStatus(responseCode);
             if (responseCode == HttpURLConnection.HTTP_OK) {
+                event.setSuccess(true);
                 plugin.getLogger().info("Successfully sent server stats to backend");
                 consecutiveFailures = 0;
             } else {
@@ -59,6 +74,11 @@ public class StatsTask extends BukkitRunnable {
             if (connection != null) {
                 connection.disconnect();
             }
+            event.end();
+            if (event.shouldCommit()) {
+                event.setRoute(urlString);
+                event.commit();
+            }
         }
     }
 
@@ -88,20 +108,36 @@ public class StatsTask extends BukkitRunnable {
 
     private String createPayload(String secret) {
         Map<String, Object> statsData = new HashMap<>();
-        statsData.put("onlinePlayers", Bukkit.getOnlinePlayers().size());
-        statsData.put("maxPlayers", Bukkit.getMaxPlayers());
-        statsData.put("newPlayersToday", plugin.getNewPlayersToday().getAndSet(0));
+        int onlinePlayers = Bukkit.getOnlinePlayers().size();
+        int maxPlayers = Bukkit.getMaxPlayers();
+        int newPlayers = plugin.getNewPlayersToday().getAndSet(0);
+        statsData.put("onlinePlayers", onlinePlayers);
+        statsData.put("maxPlayers", maxPlayers);
+        statsData.put("newPlayersToday", newPlayers);
         statsData.put("secret", secret);
+        if (networkStats != null) {
+            // Every server sends its own numbers tagged with its id, plus the totals of the whole network
+            statsData.put("serverId", plugin.getPlayerProfileService().getServerId());
+            try {
+                statsData.put("network", networkStats.report(onlinePlayers, maxPlayers, newPlayers).get(5, TimeUnit.SECONDS));
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Could not aggregate network stats. Sending this server's stats only.", e);
+            }
+        }
         return gson.toJson(statsData);
     }
 
-    private void sendRequest(HttpURLConnection connection, String jsonPayload) throws Exception {
+    /**
+     * @return The number of bytes sent.
+     */
+    private int sendRequest(HttpURLConnection connection, String jsonPayload) throws Exception {
         byte[] postData = jsonPayload.getBytes(StandardCharsets.UTF_8);
         connection.setFixedLengthStreamingMode(postData.length);
         try (OutputStream os = connection.getOutputStream()) {
             os.write(postData);
             os.flush();
         }
+        return postData.length;
     }
 
     private void handleErrorResponse(HttpURLConnection connection, int responseCode) {
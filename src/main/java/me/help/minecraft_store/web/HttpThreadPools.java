@@ -0,0 +1,55 @@
+// src/main/java/me/help/minecraft_store/web/HttpThreadPools.java
+package me.help.minecraft_store.web;
+
+import me.help.minecraft_store.AtlasCoreConnector;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+/**
+ * Builds the Jetty thread pool for the embedded Spark server from the webhook.threadPool config section.
+ */
+final class HttpThreadPools {
+
+    private static final String POOL_NAME = "AtlasCore-HTTP";
+    // Jetty needs a handful of threads for its acceptors and selectors before it can serve anything
+    private static final int MIN_POOL_SIZE = 8;
+
+    private HttpThreadPools() {
+    }
+
+    static ThreadPool create(AtlasCoreConnector plugin) {
+        FileConfiguration config = plugin.getConfig();
+
+        if (config.getBoolean("webhook.threadPool.virtualThreads", false)) {
+            int maxConcurrent = Math.max(MIN_POOL_SIZE, config.getInt("webhook.threadPool.maxConcurrentRequests", 10000));
+            VirtualThreadPool virtualThreadPool = VirtualThreadPool.createIfSupported(POOL_NAME + "-", maxConcurrent);
+            if (virtualThreadPool != null) {
+                plugin.getLogger().info("Web server handlers will run on virtual threads (max " + maxConcurrent + " concurrent).");
+                return virtualThreadPool;
+            }
+            plugin.getLogger().warning("webhook.threadPool.virtualThreads requires Java 21 or newer. Falling back to a platform thread pool.");
+        }
+
+        int maxThreads = config.getInt("webhook.threadPool.maxThreads", 200);
+        if (maxThreads < MIN_POOL_SIZE) {
+            plugin.getLogger().warning("webhook.threadPool.maxThreads is too low for Jetty. Using " + MIN_POOL_SIZE + " instead.");
+            maxThreads = MIN_POOL_SIZE;
+        }
+        int minThreads = Math.max(1, Math.min(maxThreads, config.getInt("webhook.threadPool.minThreads", 8)));
+        int idleTimeoutMillis = config.getInt("webhook.threadPool.idleTimeoutMillis", 60000);
+        int maxQueuedRequests = config.getInt("webhook.threadPool.maxQueuedRequests", 1000);
+
+        // Requests beyond the queue limit are rejected by Jetty instead of piling up behind blocked handlers
+        BlockingArrayQueue<Runnable> queue = maxQueuedRequests > 0
+                ? new BlockingArrayQueue<>(Math.min(minThreads, maxQueuedRequests), minThreads, maxQueuedRequests)
+                : new BlockingArrayQueue<>(minThreads, minThreads);
+
+        QueuedThreadPool threadPool = new QueuedThreadPool(maxThreads, minThreads, idleTimeoutMillis, queue);
+        threadPool.setName(POOL_NAME);
+        plugin.getLogger().info(String.format("Web server thread pool: %d-%d threads, %d ms idle timeout, %s queued requests.",
+                minThreads, maxThreads, idleTimeoutMillis, maxQueuedRequests > 0 ? String.valueOf(maxQueuedRequests) : "unbounded"));
+        return threadPool;
+    }
+}
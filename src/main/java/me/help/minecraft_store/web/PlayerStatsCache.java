@@ -0,0 +1,128 @@
+// src/main/java/me/help/minecraft_store/web/PlayerStatsCache.java
+package me.help.minecraft_store.web;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Short-lived, size-bounded cache of already-serialized /player-stats responses.
+ * Entries are keyed by player UUID and versioned by {@code PlayerProfileData.lastUpdated}.
+ * Each entry keeps the ETag of its body, so cache hits can be revalidated without hashing again.
+ */
+public class PlayerStatsCache {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<UUID, Entry> entries;
+
+    public PlayerStatsCache(long ttlMillis, int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        // Access-ordered so the least recently served profile is evicted first
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > PlayerStatsCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached response for a player, or null if there is none or it has expired.
+     */
+    public synchronized Entry get(UUID uuid) {
+        Entry entry = entries.get(uuid);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(uuid);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Caches a serialized response. A newer version already in the cache is never replaced by an older one.
+     */
+    public synchronized void put(UUID uuid, String body, long version, String etag) {
+        if (ttlMillis <= 0 || maxEntries <= 0) {
+            return;
+        }
+        Entry current = entries.get(uuid);
+        if (current != null && current.version > version && current.expiresAt > System.currentTimeMillis()) {
+            return;
+        }
+        entries.put(uuid, new Entry(body, version, etag, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * Drops the cached response for a player if it is older than the given profile version.
+     */
+    public synchronized void invalidate(UUID uuid, long version) {
+        Entry entry = entries.get(uuid);
+        if (entry != null && entry.version < version) {
+            entries.remove(uuid);
+        }
+    }
+
+    /**
+     * Drops the cached response for a player regardless of its version, e.g. after a command changed live values.
+     */
+    public synchronized void invalidate(UUID uuid) {
+        entries.remove(uuid);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Builds the ETag of a response from a hash of the serialized body alone, so a response rebuilt after the entry
+     * expired keeps its ETag as long as the values are the same, and clients still get a 304.
+     */
+    public static String etagFor(String body) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        // 64 bits of the digest are plenty to tell two bodies of one player apart
+        long hash = 0;
+        for (int i = 0; i < 8; i++) {
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        }
+        return "\"" + String.format("%016x", hash) + "\"";
+    }
+
+    public static final class Entry {
+        private final String body;
+        private final long version;
+        private final String etag;
+        private final long expiresAt;
+
+        private Entry(String body, long version, String etag, long expiresAt) {
+            this.body = body;
+            this.version = version;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+// src/main/java/me/help/minecraft_store/web/VirtualThreadPool.java
+package me.help.minecraft_store.web;
+
+import org.eclipse.jetty.io.ManagedSelector;
+import org.eclipse.jetty.server.AbstractConnector;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Jetty thread pool that runs request handling on virtual threads (Java 21+).
+ * Handlers blocked on the main thread or Firestore then only park a virtual thread instead of
+ * holding one of a fixed number of platform threads. The plugin targets Java 17, so the
+ * virtual thread factory is looked up reflectively.
+ * <p>
+ * Jetty's acceptor and selector loops still get platform threads: they block in accept() and select() for the
+ * server's whole lifetime, which would pin a carrier thread each. They are recognized by type, since Spark creates
+ * the connector itself and offers no way to give it a separate executor.
+ */
+public class VirtualThreadPool extends AbstractLifeCycle implements ThreadPool {
+
+    private static final String ACCEPTOR_CLASS = AbstractConnector.class.getName() + "$Acceptor";
+    // ManagedSelector starts its select loop as a method reference
+    private static final String SELECTOR_LAMBDA_PREFIX = ManagedSelector.class.getName() + "$$Lambda";
+
+    private final ThreadFactory threadFactory;
+    private final String namePrefix;
+    private final int maxConcurrent;
+    private final AtomicInteger activeThreads = new AtomicInteger();
+    private final AtomicInteger platformThreadCount = new AtomicInteger();
+    private volatile ExecutorService platformThreads;
+    private volatile CountDownLatch stopped = new CountDownLatch(1);
+
+    private VirtualThreadPool(ThreadFactory threadFactory, String namePrefix, int maxConcurrent) {
+        this.threadFactory = threadFactory;
+        this.namePrefix = namePrefix;
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * Creates a pool backed by virtual threads, or returns null if the running JVM does not support them.
+     */
+    public static VirtualThreadPool createIfSupported(String namePrefix, int maxConcurrent) {
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return new VirtualThreadPool(factory, namePrefix, maxConcurrent);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        // A fresh latch and executor per start, so join() waits again after a stop/start cycle
+        stopped = new CountDownLatch(1);
+        platformThreads = Executors.newCachedThreadPool(job -> {
+            Thread thread = new Thread(job, namePrefix + "io-" + platformThreadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        super.doStart();
+    }
+
+    @Override
+    public void execute(Runnable job) {
+        if (isSelectorOrAcceptor(job)) {
+            platformThreads.execute(job);
+            return;
+        }
+        // Bound the number of in-flight jobs so a flood of requests cannot grow without limit
+        if (activeThreads.incrementAndGet() > maxConcurrent) {
+            activeThreads.decrementAndGet();
+            throw new RejectedExecutionException("Too many concurrent HTTP jobs (limit " + maxConcurrent + ")");
+        }
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    job.run();
+                } finally {
+                    activeThreads.decrementAndGet();
+                }
+            }).start();
+        } catch (RuntimeException e) {
+            activeThreads.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private static boolean isSelectorOrAcceptor(Runnable job) {
+        String className = job.getClass().getName();
+        return className.equals(ACCEPTOR_CLASS) || className.startsWith(SELECTOR_LAMBDA_PREFIX);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // Jetty has already ended the loops by now, so their threads finish on their own
+        platformThreads.shutdown();
+        stopped.countDown();
+        super.doStop();
+    }
+
+    @Override
+    public void join() throws InterruptedException {
+        stopped.await();
+    }
+
+    @Override
+    public int getThreads() {
+        return activeThreads.get();
+    }
+
+    @Override
+    public int getIdleThreads() {
+        // Virtual threads are never pooled, so there is never an idle one
+        return 0;
+    }
+
+    @Override
+    public boolean isLowOnThreads() {
+        return activeThreads.get() >= maxConcurrent;
+    }
+}
@@ -2,29 +2,69 @@
 package me.help.minecraft_store.web;
 
 import com.google.gson.Gson;
-import me.clip.placeholderapi.PlaceholderAPI;
 import me.help.minecraft_store.AtlasCoreConnector;
+import me.help.minecraft_store.data.PlayerEvent;
 import me.help.minecraft_store.data.PlayerProfileData;
+import me.help.minecraft_store.data.ProfileCursor;
+import me.help.minecraft_store.data.ProfilePage;
+import me.help.minecraft_store.jfr.CommandDispatchEvent;
+import me.help.minecraft_store.jfr.ConnectorEvent;
+import me.help.minecraft_store.jfr.HttpRequestEvent;
+import me.help.minecraft_store.jfr.MainThreadHopEvent;
 import me.help.minecraft_store.payloads.CommandPayload;
 import me.help.minecraft_store.payloads.VerificationPayload;
+import me.help.minecraft_store.services.ProfileStore;
+import me.help.minecraft_store.services.ReadinessService;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 import spark.Spark;
-
+import spark.embeddedserver.EmbeddedServers;
+import spark.embeddedserver.jetty.EmbeddedJettyFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
+import java.util.zip.GZIPOutputStream;
 
 public class WebServer {
 
+    private static final Map<String, String[]> ROUTE_DEPENDENCIES = Map.of(
+            "/execute-command", new String[]{ReadinessService.SERVER},
+            "/player-stats", new String[]{ReadinessService.SERVER, ReadinessService.PLACEHOLDERS},
+            "/generate-and-send-code", new String[]{ReadinessService.SERVER},
+            "/verify-code", new String[]{ReadinessService.SERVER},
+            "/export/profiles", new String[]{ReadinessService.PROFILES}
+    );
+    // Routes wait for these while they start, but still serve degraded responses if they fail
+    private static final Map<String, String[]> ROUTE_OPTIONAL_DEPENDENCIES = Map.of(
+            // Without the profile store, /player-stats answers with live stats only
+            "/player-stats", new String[]{ReadinessService.PROFILES}
+    );
+    // Request attribute holding the Flight Recorder event of the request
+    private static final String HTTP_EVENT_ATTRIBUTE = "atlascore.jfr";
+    private static final int DEFAULT_EXPORT_PAGE_SIZE = 500;
+    private static final int MAX_EXPORT_PAGE_SIZE = 1000;
+    private static final long EXPORT_PAGE_TIMEOUT_SECONDS = 30;
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+
     private final AtlasCoreConnector plugin;
     private final Gson gson = new Gson();
     private final SecureRandom random = new SecureRandom();
@@ -33,7 +73,11 @@ public class WebServer {
         this.plugin = plugin;
     }
 
-    public void start() {
+    /**
+     * Starts the web server and blocks until it is listening.
+     * @return false if the server is disabled by configuration or failed to start.
+     */
+    public boolean start() {
         // Ensure Spark runs with the correct class loader
         Thread.currentThread().setContextClassLoader(this.getClass().getClassLoader());
 
@@ -43,9 +87,13 @@ public class WebServer {
 
             if (secret == null || secret.isEmpty() || secret.equals("YOUR_SECRET_KEY_HERE")) {
                 plugin.getLogger().severe("CRITICAL: webhook.secret is not set in config.yml. Web server is disabled for security.");
-                return;
+                return false;
             }
 
+            // Replace Spark's default Jetty pool with one sized for handlers that block on the main thread and Firestore
+            EmbeddedServers.add(EmbeddedServers.Identifiers.JETTY,
+                    new EmbeddedJettyFactory().withThreadPool(HttpThreadPools.create(plugin)));
+
             Spark.port(port);
             plugin.getLogger().info("Internal web server starting on port " + port);
 
@@ -53,22 +101,65 @@ public class WebServer {
 
             // --- Define All API Endpoints ---
             Spark.get("/", (req, res) -> "AtlasCoreConnector is running");
+            Spark.get("/health", (req, res) -> handleHealth(req, res, secret));
             Spark.post("/execute-command", this::handleExecuteCommand);
             Spark.post("/player-stats", this::handlePlayerStats);
 
             // FIX: Added missing endpoints for account verification
             Spark.post("/generate-and-send-code", this::handleGenerateAndSendCode);
             Spark.post("/verify-code", this::handleVerifyCode);
+            Spark.get("/export/profiles", this::handleExportProfiles);
+
+            Spark.awaitInitialization();
+            plugin.getLogger().info("Internal web server is listening on port " + port);
+            return true;
 
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to start internal web server", e);
+            return false;
         }
     }
 
+    /**
+     * Builds Gson's type adapters for every payload up front, so the first requests do not pay for reflection.
+     */
+    public void warmUp() {
+        gson.getAdapter(CommandPayload.class);
+        gson.getAdapter(VerificationPayload.class);
+        gson.getAdapter(PlayerProfileData.class);
+        gson.fromJson(gson.toJson(Map.of("success", true, "stats", Map.of("player_name", "warmup"))), Map.class);
+    }
+
     /**
      * Sets up Spark middleware for CORS and authentication.
      */
     private void setupMiddleware(String secret) {
+        // Flight Recorder: time every request, including ones halted by the filters below
+        Spark.before((req, res) -> {
+            HttpRequestEvent event = new HttpRequestEvent();
+            event.begin();
+            req.attribute(HTTP_EVENT_ATTRIBUTE, event);
+        });
+        Spark.afterAfter((req, res) -> {
+            HttpRequestEvent event = req.attribute(HTTP_EVENT_ATTRIBUTE);
+            if (event == null) {
+                return;
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.setRoute(req.pathInfo());
+                event.setMethod(req.requestMethod());
+                event.setStatus(res.status());
+                event.setRequestSize(Math.max(req.contentLength(), 0));
+                // Streaming handlers return an empty body and record what they wrote themselves
+                String body = res.body();
+                if (body != null && !body.isEmpty()) {
+                    event.setPayloadSize(ConnectorEvent.utf8Length(body));
+                }
+                event.commit();
+            }
+        });
+
         // Enable CORS
         Spark.options("/*", (request, response) -> {
             String accessControlRequestHeaders = request.headers("Access-Control-Request-Headers");
@@ -82,21 +173,56 @@ public class WebServer {
             return "OK";
         });
 
-        Spark.before((request, response) -> response.header("Access-Control-Allow-Origin", "*"));
+        Spark.before((request, response) -> {
+            response.header("Access-Control-Allow-Origin", "*");
+            response.header("Access-Control-Expose-Headers", "ETag, Last-Modified");
+        });
 
         // Authentication middleware to protect endpoints
         Spark.before((req, res) -> {
-            // Don't protect the root or OPTIONS requests
-            if (req.pathInfo().equals("/") || req.requestMethod().equals("OPTIONS")) {
+            // Don't protect the root, the health check or OPTIONS requests
+            if (req.pathInfo().equals("/") || req.pathInfo().equals("/health") || req.requestMethod().equals("OPTIONS")) {
                 return;
             }
-            String authHeader = req.headers("Authorization");
-            String expectedHeader = "Bearer " + secret;
-            if (!expectedHeader.equals(authHeader)) {
+            if (!isAuthorized(req, secret)) {
                 plugin.getLogger().warning("Unauthorized request to " + req.pathInfo() + " from IP: " + req.ip());
                 Spark.halt(401, gson.toJson(Map.of("success", false, "message", "Unauthorized.")));
             }
         });
+
+        // Readiness middleware: routes are only served once the subsystems they depend on are up
+        Spark.before((req, res) -> {
+            if (req.requestMethod().equals("OPTIONS")) {
+                return;
+            }
+            String[] dependencies = ROUTE_DEPENDENCIES.get(req.pathInfo());
+            String[] optionalDependencies = ROUTE_OPTIONAL_DEPENDENCIES.get(req.pathInfo());
+            ReadinessService readiness = plugin.getReadinessService();
+            if ((dependencies != null && !readiness.isReady(dependencies))
+                    || (optionalDependencies != null && !readiness.isSettled(optionalDependencies))) {
+                res.type("application/json");
+                res.header("Retry-After", "5");
+                Spark.halt(503, gson.toJson(Map.of("success", false, "message", "The server is still starting up. Try again shortly.")));
+            }
+        });
+    }
+
+    private static boolean isAuthorized(spark.Request req, String secret) {
+        return ("Bearer " + secret).equals(req.headers("Authorization"));
+    }
+
+    /**
+     * Reports per-subsystem readiness and initialization timings. Unauthenticated so load balancers can poll it;
+     * the reasons subsystems failed are only included for callers that send the webhook secret.
+     * Answers 200 when UP or DEGRADED: a failed optional subsystem, like the profile store that /player-stats can do
+     * without, leaves the plugin worth routing to. 503 means still starting or a required subsystem failed.
+     */
+    private String handleHealth(spark.Request req, spark.Response res, String secret) {
+        res.type("application/json");
+        res.header("Cache-Control", "no-store");
+        ReadinessService readiness = plugin.getReadinessService();
+        res.status(readiness.isServing() ? 200 : 503);
+        return gson.toJson(readiness.snapshot(isAuthorized(req, secret)));
     }
 
     /**
@@ -123,11 +249,14 @@ public class WebServer {
         plugin.getVerificationCodes().put(player.getUniqueId(), code);
 
         // Send the code to the player in-game (must be on the main thread)
+        MainThreadHopEvent hop = MainThreadHopEvent.schedule(req.pathInfo(), player.getUniqueId());
         new BukkitRunnable() {
             @Override
             public void run() {
+                hop.started();
                 player.sendMessage("§e[AtlasCore] §fYour verification code is: §a§l" + code);
                 player.sendMessage("§e[AtlasCore] §fEnter this code on the website to link your account.");
+                hop.finished();
             }
         }.runTask(plugin);
 
@@ -181,16 +310,49 @@ public class WebServer {
             return gson.toJson(Map.of("success", false, "message", "Invalid payload: Missing command."));
         }
 
+        String route = req.pathInfo();
+        MainThreadHopEvent hop = MainThreadHopEvent.schedule(route, null);
         new BukkitRunnable() {
             @Override
             public void run() {
+                hop.started();
                 String finalCommand = payload.getCommand();
                 Map<String, String> playerContext = payload.getPlayerContext();
                 if (playerContext != null && playerContext.containsKey("playerName")) {
                     finalCommand = finalCommand.replace("{player}", playerContext.get("playerName"));
                 }
+                String playerName = playerContext != null ? playerContext.get("playerName") : null;
+                Player target = playerName != null ? Bukkit.getPlayerExact(playerName) : null;
+                UUID targetUUID = target != null ? target.getUniqueId() : null;
+
                 plugin.getLogger().info("Dispatching command: " + finalCommand);
-                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), finalCommand);
+                CommandDispatchEvent dispatch = new CommandDispatchEvent();
+                dispatch.begin();
+                boolean success;
+                try {
+                    success = Bukkit.dispatchCommand(Bukkit.getConsoleSender(), finalCommand);
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.WARNING, "Command failed: " + finalCommand, e);
+                    success = false;
+                }
+                dispatch.end();
+                if (dispatch.shouldCommit()) {
+                    dispatch.setRoute(route);
+                    dispatch.setPlayer(targetUUID);
+                    dispatch.setCommand(finalCommand);
+                    dispatch.setSuccess(success);
+                    dispatch.setPayloadSize(ConnectorEvent.utf8Length(finalCommand));
+                    dispatch.commit();
+                }
+                plugin.getPlayerEventOutbox().append(PlayerEvent.command(targetUUID, playerName, finalCommand, success));
+                // Store commands change live values such as balances, which cached /player-stats responses would hide
+                if (targetUUID != null) {
+                    plugin.getPlayerStatsCache().invalidate(targetUUID);
+                } else {
+                    plugin.getPlayerStatsCache().clear();
+                }
+                hop.setPlayer(targetUUID);
+                hop.finished();
             }
         }.runTask(plugin);
 
@@ -212,15 +374,31 @@ public class WebServer {
 
         try {
             UUID playerUUID = UUID.fromString(playerUUIDString);
-            CompletableFuture<String> futureResult = new CompletableFuture<>();
+            HttpRequestEvent event = req.attribute(HTTP_EVENT_ATTRIBUTE);
+            if (event != null) {
+                event.setPlayer(playerUUID);
+            }
 
+            // Hot profiles are answered from memory without touching Firestore or the main thread
+            PlayerStatsCache.Entry cached = plugin.getPlayerStatsCache().get(playerUUID);
+            if (cached != null) {
+                return writeConditional(req, res, cached.getBody(), cached.getVersion(), cached.getEtag());
+            }
+
+            // Started before the main thread hop, so the store round trip overlaps the wait for the next tick
+            // instead of running inside it
+            CompletableFuture<PlayerProfileData> profileLoad = plugin.getPlayerProfileService().loadPlayerProfile(playerUUID);
+            CompletableFuture<LiveStats> futureLive = new CompletableFuture<>();
+
+            MainThreadHopEvent hop = MainThreadHopEvent.schedule(req.pathInfo(), playerUUID);
             new BukkitRunnable() {
                 @Override
                 public void run() {
+                    hop.started();
                     try {
                         OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(playerUUID);
                         if (!offlinePlayer.hasPlayedBefore() && offlinePlayer.getName() == null) {
-                            futureResult.complete(gson.toJson(Map.of("success", false, "message", "Player with UUID " + playerUUID + " has not played on this server.")));
+                            futureLive.complete(null);
                             return;
                         }
 
@@ -228,87 +406,244 @@ public class WebServer {
                         String playerName = offlinePlayer.getName() != null ? offlinePlayer.getName() : "Unknown";
                         liveStats.put("player_name", playerName);
 
-                        List<String> placeholders = getPlaceholders();
-                        if (!placeholders.isEmpty()) {
-                            List<String> parsedValues = PlaceholderAPI.setPlaceholders(offlinePlayer, placeholders);
-                            for (int i = 0; i < placeholders.size(); i++) {
-                                String key = placeholders.get(i).replace("%", "").toLowerCase();
-                                String value = parsedValues.get(i);
-                                // FIX: Only save if the placeholder returned a meaningful value, it's not the placeholder itself, AND it's not empty
-                                if (!value.equals(placeholders.get(i)) && !value.isEmpty()) {
-                                    liveStats.put(key, value);
-                                }
-                            }
-                        }
+                        liveStats.putAll(plugin.getPlaceholderService().resolveStats(offlinePlayer));
+                        futureLive.complete(new LiveStats(playerName, liveStats, offlinePlayer.isOnline()));
+                    } catch (Exception e) {
+                        futureLive.completeExceptionally(e);
+                    } finally {
+                        hop.finished();
+                    }
+                }
+            }.runTask(plugin);
 
-                        if (Bukkit.getPluginManager().isPluginEnabled("Vault")) {
-                            String balancePlaceholder = "%vault_eco_balance%";
-                            String rawBalance = PlaceholderAPI.setPlaceholders(offlinePlayer, balancePlaceholder);
-                            // FIX: Only save if the placeholder returned a meaningful value, it's not the placeholder itself, AND it's not empty
-                            if (rawBalance != null && !rawBalance.equals(balancePlaceholder) && !rawBalance.isEmpty()) {
-                                liveStats.put("vault_eco_balance", rawBalance.replace(",", ""));
-                            }
-                        }
+            LiveStats live;
+            try {
+                live = futureLive.get();
+            } catch (ExecutionException e) {
+                plugin.getLogger().log(Level.SEVERE, "Error processing player stats for UUID: " + playerUUID, e.getCause());
+                return gson.toJson(Map.of("success", false, "message", "Internal plugin error during stat processing."));
+            }
+            if (live == null) {
+                return gson.toJson(Map.of("success", false, "message", "Player with UUID " + playerUUID + " has not played on this server."));
+            }
 
-                        PlayerProfileData cachedProfile = null;
-                        try {
-                            cachedProfile = plugin.getPlayerProfileService().loadPlayerProfile(playerUUID).get();
-                        } catch (Exception e) {
-                            plugin.getLogger().warning("Could not load cached profile for " + playerName + ". Error: " + e.getMessage());
-                        }
+            PlayerProfileData cachedProfile = null;
+            try {
+                cachedProfile = profileLoad.get();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Could not load cached profile for " + live.playerName + ". Error: " + e.getMessage());
+            }
 
-                        Map<String, String> finalStats = new HashMap<>();
-                        if (cachedProfile != null && cachedProfile.getStats() != null) {
-                            finalStats.putAll(cachedProfile.getStats());
-                        }
-                        finalStats.putAll(liveStats); // <---- Live stats are put AFTER cached stats
+            Map<String, String> finalStats = new HashMap<>();
+            if (cachedProfile != null && cachedProfile.getStats() != null) {
+                finalStats.putAll(cachedProfile.getStats());
+            }
+            finalStats.putAll(live.stats); // <---- Live stats are put AFTER cached stats
+
+            long version = cachedProfile != null ? cachedProfile.getLastUpdated() : 0L;
+            // Only a change is a new version; saving unchanged stats would just cost a write on every cache miss
+            if (live.online && (cachedProfile == null || !finalStats.equals(cachedProfile.getStats()))) {
+                PlayerProfileData profileToSave = new PlayerProfileData(playerUUID, live.playerName, finalStats, System.currentTimeMillis());
+                plugin.getPlayerProfileService().savePlayerProfile(profileToSave);
+                version = profileToSave.getLastUpdated();
+            }
 
-                        if (offlinePlayer.isOnline()) {
-                            PlayerProfileData profileToSave = new PlayerProfileData(playerUUID, playerName, finalStats, System.currentTimeMillis());
-                            plugin.getPlayerProfileService().savePlayerProfile(profileToSave);
-                        }
+            String body = gson.toJson(Map.of("success", true, "stats", finalStats));
+            String etag = PlayerStatsCache.etagFor(body);
+            plugin.getPlayerStatsCache().put(playerUUID, body, version, etag);
+            return writeConditional(req, res, body, version, etag);
 
-                        futureResult.complete(gson.toJson(Map.of("success", true, "stats", finalStats)));
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to handle /player-stats request: " + e.getMessage(), e);
+            return gson.toJson(Map.of("success", false, "message", "Invalid UUID or fatal server error."));
+        }
+    }
+
+    /**
+     * Streams every stored profile as newline-delimited JSON, gzipped if the client accepts it.
+     * Query parameters: since (only profiles with a lastUpdated of at least this value), cursor (resume after the
+     * profile with this "lastUpdated:uuid") and limit (profiles per store page).
+     * <p>
+     * Profiles come in ascending lastUpdated order, so the last line received is always a valid resume point and
+     * its lastUpdated is the since of the next incremental sync. Store pages are fetched one ahead and written as
+     * they arrive, so memory use does not grow with the number of profiles. If the store fails mid-stream, the
+     * last line is {"error": ..., "cursor": ...} with the cursor to resume from. The cursor is left out if there is
+     * nothing to resume after yet, i.e. the export has to start over.
+     */
+    private String handleExportProfiles(spark.Request req, spark.Response res) {
+        ProfileCursor cursor;
+        long since;
+        int pageSize;
+        try {
+            cursor = req.queryParams("cursor") != null ? ProfileCursor.parse(req.queryParams("cursor")) : null;
+            since = req.queryParams("since") != null ? Long.parseLong(req.queryParams("since")) : 0L;
+            pageSize = req.queryParams("limit") != null ? Integer.parseInt(req.queryParams("limit")) : DEFAULT_EXPORT_PAGE_SIZE;
+        } catch (IllegalArgumentException e) {
+            res.type("application/json");
+            res.status(400);
+            return gson.toJson(Map.of("success", false, "message", "Invalid cursor, since or limit."));
+        }
+        if (pageSize < 1 || pageSize > MAX_EXPORT_PAGE_SIZE) {
+            res.type("application/json");
+            res.status(400);
+            return gson.toJson(Map.of("success", false, "message", "limit must be between 1 and " + MAX_EXPORT_PAGE_SIZE + "."));
+        }
+
+        ProfileStore store = plugin.getPlayerProfileService().getStore();
+        ProfilePage page;
+        try {
+            // Awaited before anything is sent, so a failing store still gets a proper status code
+            page = store.loadPage(cursor, since, pageSize).get(EXPORT_PAGE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to start the profile export", e);
+            res.type("application/json");
+            res.status(500);
+            return gson.toJson(Map.of("success", false, "message", "Could not read profiles from the store."));
+        }
 
+        res.type("application/x-ndjson");
+        res.header("Cache-Control", "no-store");
+        boolean gzip = acceptsGzip(req.headers("Accept-Encoding"));
+        if (gzip) {
+            res.header("Content-Encoding", "gzip");
+        }
+
+        long bytesWritten = 0;
+        try {
+            OutputStream body = res.raw().getOutputStream();
+            // Sync flushing makes every flushed page reach the client instead of waiting in the compressor
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(gzip ? new GZIPOutputStream(body, 8192, true) : body, StandardCharsets.UTF_8))) {
+                while (true) {
+                    // Ask for the next page before writing this one, so the store round trip overlaps the download
+                    CompletableFuture<ProfilePage> next = page.getNextCursor() != null
+                            ? store.loadPage(page.getNextCursor(), since, pageSize)
+                            : null;
+                    for (PlayerProfileData profile : page.getProfiles()) {
+                        String line = gson.toJson(profile);
+                        out.write(line);
+                        out.write('\n');
+                        bytesWritten += ConnectorEvent.utf8Length(line) + 1;
+                        cursor = ProfileCursor.after(profile);
+                    }
+                    out.flush();
+                    if (next == null) {
+                        break;
+                    }
+                    try {
+                        page = next.get(EXPORT_PAGE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
                     } catch (Exception e) {
-                        plugin.getLogger().log(Level.SEVERE, "Error processing player stats for UUID: " + playerUUID, e);
-                        futureResult.complete(gson.toJson(Map.of("success", false, "message", "Internal plugin error during stat processing.")));
+                        plugin.getLogger().log(Level.SEVERE, "Profile export failed after cursor " + cursor, e);
+                        Map<String, String> error = new LinkedHashMap<>();
+                        error.put("error", "Could not read profiles from the store.");
+                        if (cursor != null) {
+                            error.put("cursor", cursor.toString());
+                        }
+                        out.write(gson.toJson(error));
+                        out.write('\n');
+                        break;
                     }
                 }
-            }.runTask(plugin);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().info("Profile export client disconnected after cursor " + cursor + ": " + e.getMessage());
+        }
 
-            return futureResult.get();
+        HttpRequestEvent event = req.attribute(HTTP_EVENT_ATTRIBUTE);
+        if (event != null) {
+            event.setPayloadSize(bytesWritten);
+        }
+        // The response is already committed, Spark does not write this
+        return "";
+    }
 
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to handle /player-stats request: " + e.getMessage(), e);
-            return gson.toJson(Map.of("success", false, "message", "Invalid UUID or fatal server error."));
+    /**
+     * Adds the ETag and Last-Modified headers and answers 304 when the client's copy has the same ETag.
+     */
+    private String writeConditional(spark.Request req, spark.Response res, String body, long version, String etag) {
+        res.header("ETag", etag);
+        res.header("Cache-Control", "private, no-cache");
+        if (version > 0) {
+            res.header("Last-Modified", HTTP_DATE.format(Instant.ofEpochMilli(version)));
+        }
+        if (isNotModified(req, etag)) {
+            res.status(304);
+            return "";
         }
+        return body;
     }
 
     /**
-     * Gathers all relevant PlaceholderAPI placeholders.
+     * If-Modified-Since is deliberately not honoured: Last-Modified only tracks profile saves, while live values
+     * can change in between, so only the ETag can tell whether the client's copy is current.
      */
-    private List<String> getPlaceholders() {
-        List<String> placeholders = new ArrayList<>();
-        if (Bukkit.getPluginManager().isPluginEnabled("Fabled")) {
-            placeholders.addAll(Arrays.asList(
-                    "%fabled_player_class_mainclass%", "%fabled_default_currentlevel%", "%fabled_player_races_class%",
-                    "%fabled_health%", "%fabled_max_health%", "%fabled_mana%", "%fabled_max_mana%"
-            ));
+    private boolean isNotModified(spark.Request req, String etag) {
+        String ifNoneMatch = req.headers("If-None-Match");
+        if (ifNoneMatch == null) {
+            return false;
         }
-        if (Bukkit.getPluginManager().isPluginEnabled("AuraSkills")) {
-            placeholders.addAll(Arrays.asList(
-                    "%auraskills_power%", "%auraskills_farming%", "%auraskills_foraging%",
-                    "%auraskills_mining%", "%auraskills_fishing%", "%auraskills_excavation%",
-                    "%auraskills_archery%", "%auraskills_defense%", "%auraskills_fighting%",
-                    "%auraskills_endurance%", "%auraskills_agility%", "%auraskills_alchemy%",
-                    "%auraskills_enchanting%", "%auraskills_sorcery%", "%auraskills_healing%",
-                    "%auraskills_forging%"
-            ));
+        String opaqueTag = stripWeakPrefix(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeakPrefix(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows gzip, honouring q-values: "gzip;q=0" and "*;q=0" refuse it, and an
+     * explicit gzip entry takes precedence over "*".
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0.0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    /**
+     * What /player-stats collects on the main thread: the values that have to be read live.
+     */
+    private static final class LiveStats {
+        private final String playerName;
+        private final Map<String, String> stats;
+        private final boolean online;
+
+        private LiveStats(String playerName, Map<String, String> stats, boolean online) {
+            this.playerName = playerName;
+            this.stats = stats;
+            this.online = online;
         }
-        placeholders.add("%statistic_player_kills%");
-        placeholders.add("%statistic_deaths%");
-        return placeholders;
     }
 
     /**